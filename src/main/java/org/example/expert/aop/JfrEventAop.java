@@ -0,0 +1,106 @@
+package org.example.expert.aop;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jdk.jfr.EventType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.jfr.RepositoryCallEvent;
+import org.example.expert.jfr.ServiceMethodEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+// TraceAop 안쪽에서 실행되어 span 시간에 JFR 이벤트 기록 시간이 섞이지 않는다
+@Aspect
+@Order(2)
+public class JfrEventAop {
+
+    // 레코딩 여부는 이벤트 객체를 만들지 않고 타입으로 확인한다
+    private static final EventType SERVICE_METHOD = EventType.getEventType(ServiceMethodEvent.class);
+    private static final EventType REPOSITORY_CALL = EventType.getEventType(RepositoryCallEvent.class);
+
+    @Pointcut("within(org.example.expert.domain..service..*) && " +
+            "(@within(org.springframework.transaction.annotation.Transactional) || " +
+            "@annotation(org.springframework.transaction.annotation.Transactional))")
+    private void transactionalService(){}
+
+    @Pointcut("execution(* org.springframework.data.repository.Repository+.*(..))")
+    private void repositoryCall(){}
+
+    @Around("transactionalService()")
+    public Object recordServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 레코딩이 꺼져 있으면 이벤트 처리 없이 바로 실행
+        if (!SERVICE_METHOD.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        ServiceMethodEvent event = new ServiceMethodEvent();
+
+        event.begin();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.route = currentRoute();
+                event.entityId = firstLongArg(joinPoint.getArgs());
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+    @Around("repositoryCall()")
+    public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!REPOSITORY_CALL.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        RepositoryCallEvent event = new RepositoryCallEvent();
+
+        event.begin();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                // 리포지토리 프록시가 구현한 첫 번째 인터페이스가 선언한 리포지토리 (ex. TodoRepository)
+                event.repository = joinPoint.getThis().getClass().getInterfaces()[0].getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.route = currentRoute();
+                event.entityId = firstLongArg(joinPoint.getArgs());
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+    private String currentRoute() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? request.getMethod() + " " + pattern : request.getMethod() + " " + request.getRequestURI();
+    }
+
+    private long firstLongArg(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof Long id) {
+                return id;
+            }
+        }
+        return 0L;
+    }
+}
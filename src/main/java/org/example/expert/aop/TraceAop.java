@@ -0,0 +1,41 @@
+package org.example.expert.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.trace.Span;
+import org.example.expert.trace.SpanKind;
+import org.example.expert.trace.TraceContext;
+import org.springframework.core.annotation.Order;
+
+// JfrEventAop 보다 바깥에서 실행된다
+@Aspect
+@Order(1)
+public class TraceAop {
+
+    @Pointcut("within(org.example.expert.domain..service..*) && " +
+            "(@within(org.springframework.transaction.annotation.Transactional) || " +
+            "@annotation(org.springframework.transaction.annotation.Transactional))")
+    private void transactionalService(){}
+
+    @Around("transactionalService()")
+    public Object traceServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!TraceContext.isActive()) {
+            return joinPoint.proceed();
+        }
+
+        Span span = TraceContext.startSpan(
+                joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName(),
+                SpanKind.INTERNAL);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.markError();
+            span.attribute("exception.type", e.getClass().getName());
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package org.example.expert.client;
 
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.jfr.WeatherCallEvent;
+import org.example.expert.trace.TracingClientHttpRequestInterceptor;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,12 +21,13 @@ public class WeatherClient {
     private final RestTemplate restTemplate;
 
     public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+        this.restTemplate = builder
+                .additionalInterceptors(new TracingClientHttpRequestInterceptor())
+                .build();
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        ResponseEntity<WeatherDto[]> responseEntity = fetchWeather(buildWeatherApiUri());
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
@@ -46,6 +49,24 @@ public class WeatherClient {
         throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
     }
 
+    private ResponseEntity<WeatherDto[]> fetchWeather(URI uri) {
+        WeatherCallEvent event = new WeatherCallEvent();
+        event.begin();
+        ResponseEntity<WeatherDto[]> responseEntity = null;
+        try {
+            responseEntity = restTemplate.getForEntity(uri, WeatherDto[].class);
+            return responseEntity;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.uri = uri.toString();
+                event.statusCode = responseEntity != null ? responseEntity.getStatusCode().value() : 0;
+                event.success = responseEntity != null && HttpStatus.OK.equals(responseEntity.getStatusCode());
+                event.commit();
+            }
+        }
+    }
+
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
                 .fromUriString("https://f-api.github.io")
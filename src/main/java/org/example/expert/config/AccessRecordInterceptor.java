@@ -0,0 +1,62 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.annotation.AccessRecord;
+import org.example.expert.journal.AccessJournal;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link AccessRecord} 가 붙은 핸들러의 요청을 접근 기록에 남긴다.
+ * afterCompletion 은 예외 핸들러가 응답을 만든 뒤에 불리므로 상태 코드를 실제 응답에서 읽는다.
+ */
+public class AccessRecordInterceptor implements HandlerInterceptor {
+
+    private static final String REQUEST_TIME_ATTRIBUTE = AccessRecordInterceptor.class.getName() + ".requestTime";
+
+    private final AccessJournal accessJournal;
+
+    // 핸들러 메서드 -> 접근 기록 라우트 id (라우트 문자열은 최초 한 번만 만든다)
+    private final Map<Method, Integer> routeIds = new ConcurrentHashMap<>();
+
+    public AccessRecordInterceptor(AccessJournal accessJournal) {
+        this.accessJournal = accessJournal;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && handlerMethod.hasMethodAnnotation(AccessRecord.class)) {
+            request.setAttribute(REQUEST_TIME_ATTRIBUTE, System.currentTimeMillis());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(REQUEST_TIME_ATTRIBUTE) instanceof Long requestTime)
+                || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        // 예외 핸들러가 처리하지 못한 예외만 여기로 오며, 컨테이너가 500 으로 응답한다
+        int status = ex != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+        // 요청한 사용자의 ID (JwtFilter 에서 set 한 값)
+        Long userId = (Long) request.getAttribute("userId");
+        accessJournal.append(userId != null ? userId : 0L, requestTime, routeId(handlerMethod.getMethod(), request), status);
+    }
+
+    private int routeId(Method method, HttpServletRequest request) {
+        Integer routeId = routeIds.get(method);
+        if (routeId != null) {
+            return routeId;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        return routeIds.computeIfAbsent(method, key -> accessJournal.routeId(route));
+    }
+}
@@ -5,6 +5,9 @@ import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.trace.Span;
+import org.example.expert.trace.SpanKind;
+import org.example.expert.trace.TraceContext;
 import org.springframework.core.MethodParameter;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -34,13 +37,18 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
             NativeWebRequest webRequest,
             @Nullable WebDataBinderFactory binderFactory
     ) {
-        HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-
-        // JwtFilter 에서 set 한 userId, email, userRole 값을 가져옴
-        Long userId = (Long) request.getAttribute("userId");
-        String email = (String) request.getAttribute("email");
-        UserRole userRole = UserRole.of((String) request.getAttribute("userRole"));
-
-        return new AuthUser(userId, email, userRole);
+        Span span = TraceContext.startSpan("resolve AuthUser", SpanKind.INTERNAL);
+        try {
+            HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
+
+            // JwtFilter 에서 set 한 userId, email, userRole 값을 가져옴
+            Long userId = (Long) request.getAttribute("userId");
+            String email = (String) request.getAttribute("email");
+            UserRole userRole = UserRole.of((String) request.getAttribute("userRole"));
+
+            return new AuthUser(userId, email, userRole);
+        } finally {
+            span.end();
+        }
     }
 }
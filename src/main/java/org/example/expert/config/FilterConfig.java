@@ -1,15 +1,40 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.trace.Tracer;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 @Configuration
 @RequiredArgsConstructor
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter() {
+        FilterRegistrationBean<TracingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new TracingFilter(tracer));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE); // 요청 전체를 root span 으로 감싸도록 가장 먼저 실행합니다.
+
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResourceAccountingFilter> resourceAccountingFilter() {
+        FilterRegistrationBean<ResourceAccountingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new ResourceAccountingFilter(meterRegistry));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1); // JwtFilter 처리 비용까지 포함되도록 먼저 실행합니다.
+
+        return registrationBean;
+    }
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
@@ -11,6 +11,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.jfr.JwtVerifyEvent;
+import org.example.expert.trace.Span;
+import org.example.expert.trace.SpanKind;
+import org.example.expert.trace.TraceContext;
 
 import java.io.IOException;
 
@@ -49,7 +53,7 @@ public class JwtFilter implements Filter {
 
         try {
             // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
+            Claims claims = verifyClaims(url, jwt);
             if (claims == null) {
                 httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
                 return;
@@ -87,6 +91,38 @@ public class JwtFilter implements Filter {
         }
     }
 
+    private Claims verifyClaims(String url, String jwt) {
+        Span span = TraceContext.startSpan("JwtFilter verify", SpanKind.INTERNAL);
+        JwtVerifyEvent event = new JwtVerifyEvent();
+        event.begin();
+        Claims claims = null;
+        try {
+            claims = jwtUtil.extractClaims(jwt);
+            return claims;
+        } catch (RuntimeException e) {
+            span.markError();
+            throw e;
+        } finally {
+            span.end();
+            event.end();
+            if (event.shouldCommit()) {
+                event.route = url;
+                event.verified = claims != null;
+                event.userId = claims != null ? subjectOrZero(claims) : 0L;
+                event.commit();
+            }
+        }
+    }
+
+    // finally 에서 던지면 인증 결과가 가려지므로, 숫자가 아닌 subject 는 이벤트에 0 으로 남기고 판단은 doFilter 에 맡긴다
+    private static long subjectOrZero(Claims claims) {
+        try {
+            return Long.parseLong(claims.getSubject());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
     @Override
     public void destroy() {
         Filter.super.destroy();
@@ -1,17 +1,36 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.example.expert.jfr.PasswordHashEvent;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PasswordEncoder {
 
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        String encoded = BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "encode";
+            event.cost = BCrypt.MIN_COST;
+            event.commit();
+        }
+        return encoded;
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "matches";
+            event.cost = result.details != null ? result.details.cost : 0;
+            event.matched = result.verified;
+            event.commit();
+        }
         return result.verified;
     }
 }
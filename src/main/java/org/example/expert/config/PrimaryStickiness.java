@@ -0,0 +1,87 @@
+package org.example.expert.config;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 쓰기를 커밋한 유저는 일정 시간 동안 읽기도 primary 로 보내 복제 지연 때문에 자기 변경이 안 보이는 일을 막는다.
+ * 요청을 처리하는 스레드에 유저를 묶어 두고({@link #bind(Long)}), 라우팅 시점에 확인한다.
+ */
+public class PrimaryStickiness {
+
+    private static final ThreadLocal<Long> CURRENT_USER = new ThreadLocal<>();
+
+    // user id → primary 를 계속 쓸 기한(nanoTime)
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    public PrimaryStickiness(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    PrimaryStickiness(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public static void bind(Long userId) {
+        CURRENT_USER.set(userId);
+    }
+
+    public static void clear() {
+        CURRENT_USER.remove();
+    }
+
+    public boolean isSticky() {
+        Long userId = CURRENT_USER.get();
+        if (userId == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - nanoClock.getAsLong() > 0) {
+            return true;
+        }
+        stickyUntil.remove(userId, until);
+        return false;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 primary 연결을 잡을 때 호출된다. 복제 지연은 커밋부터 시작하므로 커밋 후에 기한을 정한다.
+     */
+    public void onWrite() {
+        Long userId = CURRENT_USER.get();
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mark(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mark(userId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.sticky-purge-interval:1m}")
+    public void purgeExpired() {
+        long now = nanoClock.getAsLong();
+        stickyUntil.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
+    }
+
+    private void mark(long userId) {
+        stickyUntil.put(userId, nanoClock.getAsLong() + windowNanos);
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * JwtFilter 가 넣어 둔 userId 를 요청 스레드에 묶어 라우팅에서 쓸 수 있게 한다.
+ */
+public class PrimaryStickinessInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute("userId") instanceof Long userId) {
+            PrimaryStickiness.bind(userId);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        PrimaryStickiness.clear();
+    }
+}
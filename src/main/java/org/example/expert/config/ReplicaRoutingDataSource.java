@@ -0,0 +1,29 @@
+package org.example.expert.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@code @Transactional(readOnly = true)} 트랜잭션은 replica 로, 나머지는 primary 로 보낸다.
+ * 트랜잭션 속성이 정해진 뒤 첫 SQL 에서 연결을 고르도록 {@code LazyConnectionDataSourceProxy} 로 감싸서 쓴다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final PrimaryStickiness stickiness;
+
+    public ReplicaRoutingDataSource(PrimaryStickiness stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            stickiness.onWrite();
+            return PRIMARY;
+        }
+        return stickiness.isSticky() ? PRIMARY : REPLICA;
+    }
+}
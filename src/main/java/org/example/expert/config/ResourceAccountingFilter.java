@@ -0,0 +1,93 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청을 처리한 스레드의 할당 바이트와 CPU 시간을 ThreadMXBean 으로 요청 전후에 측정해
+ * 라우트(HTTP 메서드 + 매핑 패턴)별 분포로 집계한다. /actuator/metrics 에서
+ * http.server.requests.allocated, http.server.requests.cpu 로 확인할 수 있다.
+ * 분위수와 max 는 최근 5분 구간 기준으로 갱신된다.
+ */
+public class ResourceAccountingFilter implements Filter {
+
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+    private static final Duration STATISTIC_EXPIRY = Duration.ofMinutes(5);
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final MeterRegistry meterRegistry;
+    private final boolean allocationSupported;
+    private final boolean cpuTimeSupported;
+    private final Map<String, RouteMeters> routeMeters = new ConcurrentHashMap<>();
+
+    public ResourceAccountingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.allocationSupported = threadMXBean.isThreadAllocatedMemorySupported()
+                && threadMXBean.isThreadAllocatedMemoryEnabled();
+        this.cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported()
+                && threadMXBean.isThreadCpuTimeEnabled();
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        long allocatedBefore = allocationSupported ? threadMXBean.getCurrentThreadAllocatedBytes() : 0L;
+        long cpuBefore = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : 0L;
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // 측정값을 먼저 계산해서 집계 과정의 할당이 포함되지 않도록 한다
+            long allocated = allocationSupported ? threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore : -1L;
+            long cpuNanos = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() - cpuBefore : -1L;
+
+            RouteMeters meters = meters((HttpServletRequest) request);
+            if (allocated >= 0) {
+                meters.allocated.record(allocated);
+            }
+            if (cpuNanos >= 0) {
+                meters.cpu.record(cpuNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private RouteMeters meters(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+        String method = request.getMethod();
+        return routeMeters.computeIfAbsent(method + " " + uri, key -> new RouteMeters(method, uri));
+    }
+
+    private class RouteMeters {
+        private final DistributionSummary allocated;
+        private final Timer cpu;
+
+        private RouteMeters(String method, String uri) {
+            this.allocated = DistributionSummary.builder("http.server.requests.allocated")
+                    .description("요청 처리 스레드의 할당 바이트")
+                    .baseUnit("bytes")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .distributionStatisticExpiry(STATISTIC_EXPIRY)
+                    .register(meterRegistry);
+            this.cpu = Timer.builder("http.server.requests.cpu")
+                    .description("요청 처리 스레드의 CPU 시간")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .distributionStatisticExpiry(STATISTIC_EXPIRY)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 기본 스케줄러는 스레드 하나라 보관/재구성 같은 긴 작업이 도는 동안 outbox relay 와 SSE heartbeat 가 멈춘다.
+    // 긴 cron 작업이 모두 겹쳐도 짧은 주기 작업이 돌 수 있을 만큼 둔다
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(
+            ThreadPoolTaskSchedulerBuilder builder,
+            @Value("${scheduling.pool-size:4}") int poolSize
+    ) {
+        return builder.poolSize(poolSize)
+                .threadNamePrefix("scheduling-")
+                .build();
+    }
+}
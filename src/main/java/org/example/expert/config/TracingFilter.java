@@ -0,0 +1,44 @@
+package org.example.expert.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.trace.Span;
+import org.example.expert.trace.Tracer;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class TracingFilter implements Filter {
+
+    private final Tracer tracer;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        Span root = tracer.beginRequest(httpRequest.getMethod())
+                .attribute("http.request.method", httpRequest.getMethod())
+                .attribute("url.path", httpRequest.getRequestURI());
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            root.markError();
+            throw e;
+        } finally {
+            Object pattern = httpRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                root.updateName(httpRequest.getMethod() + " " + pattern);
+            }
+            root.attribute("http.route", pattern)
+                    .attribute("http.response.status_code", httpResponse.getStatus());
+            if (httpResponse.getStatus() >= 500) {
+                root.markError();
+            }
+            tracer.endRequest(root);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package org.example.expert.config;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.annotation.AccessRecord;
-import org.example.expert.aop.AccessCheckAop;
+import org.example.expert.aop.JfrEventAop;
+import org.example.expert.aop.TraceAop;
+import org.example.expert.journal.AccessJournal;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -14,15 +16,29 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final AccessJournal accessJournal;
+
     // ArgumentResolver 등록
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(new AuthUserArgumentResolver());
     }
 
+    // @AccessRecord 핸들러의 접근 기록. 상태 코드는 예외 핸들러를 거친 실제 응답에서 읽는다
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AccessRecordInterceptor(accessJournal));
+    }
+
+    // JFR 레코딩이 꺼져 있으면 isEnabled() 확인 후 바로 proceed 하므로 오버헤드가 거의 없다
+    @Bean
+    public JfrEventAop getJfrEventAop(){
+        return new JfrEventAop();
+    }
+
     @Bean
-    public AccessCheckAop getAccessCheckAop(){
-        return new AccessCheckAop();
+    public TraceAop getTraceAop(){
+        return new TraceAop();
     }
 
 }
@@ -0,0 +1,46 @@
+package org.example.expert.domain.accessrecord.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.annotation.AccessRecord;
+import org.example.expert.domain.accessrecord.dto.response.AccessRecordPageResponse;
+import org.example.expert.domain.accessrecord.dto.response.AccessRecordUserCountResponse;
+import org.example.expert.domain.accessrecord.service.AccessRecordAdminService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class AccessRecordAdminController {
+
+    private final AccessRecordAdminService accessRecordAdminService;
+
+    @AccessRecord
+    @GetMapping("/admin/access-records")
+    public ResponseEntity<AccessRecordPageResponse> getAccessRecords(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String route,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(accessRecordAdminService.getAccessRecords(userId, route, from, to, cursor, size));
+    }
+
+    @AccessRecord
+    @GetMapping("/admin/access-records/top-users")
+    public ResponseEntity<List<AccessRecordUserCountResponse>> getTopUsers(
+            @RequestParam(required = false) String route,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(accessRecordAdminService.getTopUsers(route, from, to, limit));
+    }
+}
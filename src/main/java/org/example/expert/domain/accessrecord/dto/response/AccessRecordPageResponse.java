@@ -0,0 +1,17 @@
+package org.example.expert.domain.accessrecord.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class AccessRecordPageResponse {
+
+    private final List<AccessRecordResponse> records;
+    private final String nextCursor;
+
+    public AccessRecordPageResponse(List<AccessRecordResponse> records, String nextCursor) {
+        this.records = records;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.accessrecord.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AccessRecordResponse {
+
+    private final Long userId;
+    private final String route;
+    private final int status;
+    private final LocalDateTime requestedAt;
+
+    public AccessRecordResponse(Long userId, String route, int status, LocalDateTime requestedAt) {
+        this.userId = userId;
+        this.route = route;
+        this.status = status;
+        this.requestedAt = requestedAt;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.accessrecord.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class AccessRecordUserCountResponse {
+
+    private final Long userId;
+    private final long count;
+
+    public AccessRecordUserCountResponse(Long userId, long count) {
+        this.userId = userId;
+        this.count = count;
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.expert.domain.accessrecord.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.accessrecord.dto.response.AccessRecordPageResponse;
+import org.example.expert.domain.accessrecord.dto.response.AccessRecordResponse;
+import org.example.expert.domain.accessrecord.dto.response.AccessRecordUserCountResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.journal.AccessJournal;
+import org.example.expert.journal.AccessJournalEntry;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class AccessRecordAdminService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_TOP_USERS = 100;
+    private static final Duration DEFAULT_RANGE = Duration.ofHours(24);
+
+    private final AccessJournal accessJournal;
+
+    public AccessRecordPageResponse getAccessRecords(
+            Long userId, String route, LocalDateTime from, LocalDateTime to, String cursor, int size
+    ) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        long toMillis = toMillis(to, System.currentTimeMillis());
+        long fromMillis = toMillis(from, toMillis - DEFAULT_RANGE.toMillis());
+        validateRange(fromMillis, toMillis);
+        int routeId = route != null ? accessJournal.findRouteId(route) : 0;
+        if (route != null && routeId == 0) {
+            return new AccessRecordPageResponse(List.of(), null);
+        }
+
+        long afterSegment = Long.MIN_VALUE;
+        int afterIndex = -1;
+        if (cursor != null) {
+            String[] position = cursor.split("-");
+            try {
+                afterSegment = Long.parseLong(position[0]);
+                afterIndex = Integer.parseInt(position[1]);
+            } catch (RuntimeException e) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 size + 1 개까지 읽는다
+        List<AccessJournalEntry> entries = new ArrayList<>();
+        accessJournal.scan(fromMillis, toMillis, afterSegment, afterIndex, entry -> {
+            if (matches(entry, userId, routeId)) {
+                entries.add(entry);
+            }
+            return entries.size() <= size;
+        });
+
+        String nextCursor = null;
+        if (entries.size() > size) {
+            entries.remove(size);
+            AccessJournalEntry last = entries.get(size - 1);
+            nextCursor = last.getSegment() + "-" + last.getIndex();
+        }
+
+        List<AccessRecordResponse> dtoList = new ArrayList<>();
+        for (AccessJournalEntry entry : entries) {
+            dtoList.add(new AccessRecordResponse(
+                    entry.getUserId(),
+                    entry.getRoute(),
+                    entry.getStatus(),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.getEpochMillis()), ZoneId.systemDefault())
+            ));
+        }
+        return new AccessRecordPageResponse(dtoList, nextCursor);
+    }
+
+    public List<AccessRecordUserCountResponse> getTopUsers(String route, LocalDateTime from, LocalDateTime to, int limit) {
+        if (limit < 1 || limit > MAX_TOP_USERS) {
+            throw new InvalidRequestException("limit 은 1 이상 " + MAX_TOP_USERS + " 이하여야 합니다.");
+        }
+        long toMillis = toMillis(to, System.currentTimeMillis());
+        long fromMillis = toMillis(from, toMillis - DEFAULT_RANGE.toMillis());
+        validateRange(fromMillis, toMillis);
+        int routeId = route != null ? accessJournal.findRouteId(route) : 0;
+        if (route != null && routeId == 0) {
+            return List.of();
+        }
+
+        Map<Long, Long> counts = new HashMap<>();
+        accessJournal.scan(fromMillis, toMillis, entry -> {
+            if (matches(entry, null, routeId)) {
+                counts.merge(entry.getUserId(), 1L, Long::sum);
+            }
+            return true;
+        });
+
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(entry -> new AccessRecordUserCountResponse(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private boolean matches(AccessJournalEntry entry, Long userId, int routeId) {
+        return (userId == null || userId == entry.getUserId())
+                && (routeId == 0 || routeId == entry.getRouteId());
+    }
+
+    private void validateRange(long fromMillis, long toMillis) {
+        if (fromMillis > toMillis) {
+            throw new InvalidRequestException("from 은 to 보다 늦을 수 없습니다.");
+        }
+    }
+
+    private long toMillis(LocalDateTime dateTime, long defaultMillis) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : defaultMillis;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.expert.domain.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.comment.entity.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 일정의 댓글. comments 의 컬럼을 그대로 두며, 일정도 함께 옮겨지므로 연관관계 대신 id 만 갖는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "archived_comments", indexes = {
+        @Index(name = "idx_archived_comments_todo_id_id", columnList = "todo_id, id")
+})
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+    private String contents;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(length = Comment.PATH_SEGMENT_LENGTH * (Comment.MAX_DEPTH + 1))
+    private String path;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Column(nullable = false)
+    private long version;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관된 일정의 담당자. managers 의 행을 그대로 옮긴다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "archived_managers", indexes = {
+        @Index(name = "idx_archived_managers_todo_id", columnList = "todo_id")
+})
+public class ArchivedManager {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+}
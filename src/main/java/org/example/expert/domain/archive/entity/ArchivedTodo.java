@@ -0,0 +1,43 @@
+package org.example.expert.domain.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 일정의 보관본. TodoArchiveJob 이 todos 의 행을 그대로 옮겨 넣고, 이후에는 읽기만 한다.
+ * 시각은 원본 값을 보존해야 하므로 Timestamped 를 쓰지 않는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "archived_todos")
+public class ArchivedTodo {
+
+    @Id
+    private Long id;
+    private String title;
+    private String contents;
+    private String weather;
+
+    @Column(nullable = false)
+    private long commentCount;
+    @Column(nullable = false)
+    private long managerCount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private long version;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
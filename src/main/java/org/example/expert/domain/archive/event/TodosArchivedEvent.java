@@ -0,0 +1,18 @@
+package org.example.expert.domain.archive.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+
+/**
+ * 일정이 댓글/담당자와 함께 보관 테이블로 옮겨진 뒤 발행한다. 원본 테이블 기준으로는 삭제와 같다.
+ */
+@Getter
+public class TodosArchivedEvent {
+
+    private final Collection<Long> todoIds;
+
+    public TodosArchivedEvent(Collection<Long> todoIds) {
+        this.todoIds = todoIds;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.archive.repository;
+
+import org.example.expert.domain.archive.entity.ArchivedComment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface ArchivedCommentRepository extends JpaRepository<ArchivedComment, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_comments " +
+            "(id, contents, user_id, todo_id, parent_id, path, depth, version, created_at, modified_at) " +
+            "SELECT id, contents, user_id, todo_id, parent_id, path, depth, version, created_at, modified_at " +
+            "FROM comments WHERE todo_id IN (:todoIds)",
+            nativeQuery = true)
+    int copyFromComments(@Param("todoIds") Collection<Long> todoIds);
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.archive.repository;
+
+import org.example.expert.domain.archive.entity.ArchivedManager;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface ArchivedManagerRepository extends JpaRepository<ArchivedManager, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_managers (id, user_id, todo_id) " +
+            "SELECT id, user_id, todo_id FROM managers WHERE todo_id IN (:todoIds)",
+            nativeQuery = true)
+    int copyFromManagers(@Param("todoIds") Collection<Long> todoIds);
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.archive.repository;
+
+import org.example.expert.domain.archive.entity.ArchivedTodo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ArchivedTodoRepository extends JpaRepository<ArchivedTodo, Long> {
+
+    @Query("SELECT t FROM ArchivedTodo t " +
+            "LEFT JOIN FETCH t.user " +
+            "WHERE t.id = :todoId")
+    Optional<ArchivedTodo> findByIdWithUser(@Param("todoId") Long todoId);
+
+    // 엔티티로 읽지 않고 DB 안에서 한 문장으로 복사한다
+    @Modifying
+    @Query(value = "INSERT INTO archived_todos " +
+            "(id, title, contents, weather, comment_count, manager_count, user_id, version, created_at, modified_at, archived_at) " +
+            "SELECT id, title, contents, weather, comment_count, manager_count, user_id, version, created_at, modified_at, :archivedAt " +
+            "FROM todos WHERE id IN (:todoIds)",
+            nativeQuery = true)
+    int copyFromTodos(@Param("todoIds") Collection<Long> todoIds, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,101 @@
+package org.example.expert.domain.archive.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.archive.event.TodosArchivedEvent;
+import org.example.expert.domain.archive.repository.ArchivedCommentRepository;
+import org.example.expert.domain.archive.repository.ArchivedManagerRepository;
+import org.example.expert.domain.archive.repository.ArchivedTodoRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * after-days 일 넘게 수정도 댓글/담당자 활동도 없던 일정을 댓글, 담당자와 함께 archived_* 테이블로 옮긴다.
+ * 댓글/담당자 활동은 카운터 UPDATE 가 남기는 last_activity_at 으로 본다.
+ * chunk-size 개씩 별도 트랜잭션에서 복사(INSERT ... SELECT)와 삭제를 함께 하므로 chunk 는 통째로 옮겨지거나 그대로 남는다.
+ * 옮긴 행은 원본에서 사라지므로 중간에 멈춰도 다음 실행이 남은 행부터 이어서 처리한다.
+ */
+@Slf4j
+@Component
+public class TodoArchiveJob {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final ArchivedTodoRepository archivedTodoRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
+    private final ArchivedManagerRepository archivedManagerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int afterDays;
+    private final int chunkSize;
+
+    public TodoArchiveJob(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            ManagerRepository managerRepository,
+            ArchivedTodoRepository archivedTodoRepository,
+            ArchivedCommentRepository archivedCommentRepository,
+            ArchivedManagerRepository archivedManagerRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.archive.after-days:180}") int afterDays,
+            @Value("${todo.archive.chunk-size:200}") int chunkSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.managerRepository = managerRepository;
+        this.archivedTodoRepository = archivedTodoRepository;
+        this.archivedCommentRepository = archivedCommentRepository;
+        this.archivedManagerRepository = archivedManagerRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.afterDays = afterDays;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${todo.archive.cron:0 0 5 * * *}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+        long archived = 0;
+        int chunks = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            Integer moved = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            archived += moved;
+            chunks++;
+        }
+        if (archived > 0) {
+            log.info("Archived {} todos modified before {} in {} chunks", archived, cutoff, chunks);
+        }
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Long> todoIds = todoRepository.lockIdsInactiveBefore(cutoff, chunkSize);
+        if (todoIds.isEmpty()) {
+            return 0;
+        }
+
+        archivedTodoRepository.copyFromTodos(todoIds, LocalDateTime.now());
+        archivedCommentRepository.copyFromComments(todoIds);
+        archivedManagerRepository.copyFromManagers(todoIds);
+
+        // 삭제 순서는 일정 삭제와 같다 (FK 때문에 일정이 마지막)
+        commentRepository.deleteAllByTodoIdIn(todoIds);
+        managerRepository.deleteAllByTodoIdIn(todoIds);
+        todoRepository.deleteAllByIdIn(todoIds);
+        eventPublisher.publishEvent(new TodosArchivedEvent(todoIds));
+        return todoIds.size();
+    }
+}
@@ -1,10 +1,20 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.annotation.AccessRecord;
+import org.example.expert.domain.comment.dto.request.CommentAdminBatchSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBatchSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentBatchService;
+import org.example.expert.domain.comment.service.CommentBulkDeleteService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -12,10 +22,40 @@ import org.springframework.web.bind.annotation.RestController;
 public class CommentAdminController {
 
     private final CommentAdminService commentAdminService;
+    private final CommentBatchService commentBatchService;
+    private final CommentBulkDeleteService commentBulkDeleteService;
 
     @AccessRecord
     @DeleteMapping("/admin/comments/{commentId}")
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    @AccessRecord
+    @PostMapping("/admin/comments:batch")
+    public ResponseEntity<CommentBatchSaveResponse> saveComments(
+            @Valid @RequestBody CommentAdminBatchSaveRequest commentAdminBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(commentBatchService.saveCommentsAcrossTodos(commentAdminBatchSaveRequest));
+    }
+
+    @AccessRecord
+    @DeleteMapping("/admin/users/{userId}/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteCommentsByUser(@PathVariable long userId) {
+        return ResponseEntity.ok(commentBulkDeleteService.deleteByUser(userId));
+    }
+
+    @AccessRecord
+    @DeleteMapping("/admin/todos/{todoId}/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteCommentsByTodo(@PathVariable long todoId) {
+        return ResponseEntity.ok(commentBulkDeleteService.deleteByTodo(todoId));
+    }
+
+    @AccessRecord
+    @PostMapping("/admin/comments:bulk-delete")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteComments(
+            @Valid @RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest
+    ) {
+        return ResponseEntity.ok(commentBulkDeleteService.deleteByIds(commentBulkDeleteRequest.getIds()));
+    }
 }
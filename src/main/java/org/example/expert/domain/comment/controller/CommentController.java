@@ -2,22 +2,38 @@ package org.example.expert.domain.comment.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBatchSaveRequest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentUpdateRequest;
+import org.example.expert.domain.comment.dto.response.CommentBatchSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentPageResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentThreadResponse;
+import org.example.expert.domain.comment.service.CommentBatchService;
+import org.example.expert.domain.comment.service.CommentExportService;
+import org.example.expert.domain.comment.service.CommentFeedService;
 import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.comment.service.CommentUpdateService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.etag.VersionETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentBatchService commentBatchService;
+    private final CommentExportService commentExportService;
+    private final CommentFeedService commentFeedService;
+    private final CommentUpdateService commentUpdateService;
 
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
@@ -28,8 +44,78 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    @PostMapping("/todos/{todoId}/comments/{commentId}/replies")
+    public ResponseEntity<CommentSaveResponse> saveReply(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @PathVariable long commentId,
+            @Valid @RequestBody CommentSaveRequest commentSaveRequest
+    ) {
+        return ResponseEntity.ok(commentService.saveReply(authUser, todoId, commentId, commentSaveRequest));
+    }
+
+    @PatchMapping("/comments/{commentId}")
+    public ResponseEntity<CommentResponse> updateComment(
+            @Auth AuthUser authUser,
+            @PathVariable long commentId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody CommentUpdateRequest commentUpdateRequest
+    ) {
+        long version = VersionETag.parseIfMatch(ifMatch);
+        CommentResponse response = commentUpdateService.updateComment(authUser, commentId, version, commentUpdateRequest);
+        return ResponseEntity.ok()
+                .eTag(VersionETag.format(response.getVersion()))
+                .body(response);
+    }
+
+    @GetMapping("/todos/{todoId}/comments/{commentId}/thread")
+    public ResponseEntity<CommentThreadResponse> getThread(
+            @PathVariable long todoId,
+            @PathVariable long commentId,
+            @RequestParam(defaultValue = "15") int depth
+    ) {
+        return ResponseEntity.ok(commentService.getThread(todoId, commentId, depth));
+    }
+
+    @PostMapping("/todos/{todoId}/comments:batch")
+    public ResponseEntity<CommentBatchSaveResponse> saveComments(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody CommentBatchSaveRequest commentBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(commentBatchService.saveComments(authUser, todoId, commentBatchSaveRequest));
+    }
+
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<CommentPageResponse> getComments(
+            @PathVariable long todoId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean newestFirst
+    ) {
+        return ResponseEntity.ok(commentService.getComments(todoId, cursor, size, newestFirst));
+    }
+
+    @GetMapping("/todos/{todoId}/comments/export")
+    public ResponseEntity<StreamingResponseBody> exportComments(
+            @PathVariable long todoId,
+            @RequestParam(defaultValue = CommentExportService.FORMAT_NDJSON) String format
+    ) {
+        // 스트리밍이 시작되면 상태 코드를 바꿀 수 없으므로 검증은 먼저 한다
+        commentExportService.validate(todoId, format);
+        MediaType contentType = CommentExportService.FORMAT_NDJSON.equals(format)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .body(out -> commentExportService.export(todoId, format, out));
+    }
+
+    @GetMapping(value = "/todos/{todoId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(
+            @PathVariable long todoId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return commentFeedService.subscribe(todoId, lastEventId);
     }
 }
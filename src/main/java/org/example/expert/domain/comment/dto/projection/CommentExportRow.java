@@ -0,0 +1,19 @@
+package org.example.expert.domain.comment.dto.projection;
+
+import lombok.Getter;
+
+@Getter
+public class CommentExportRow {
+
+    private final Long id;
+    private final String contents;
+    private final Long userId;
+    private final String email;
+
+    public CommentExportRow(Long id, String contents, Long userId, String email) {
+        this.id = id;
+        this.contents = contents;
+        this.userId = userId;
+        this.email = email;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.comment.dto.projection;
+
+import lombok.Getter;
+
+@Getter
+public class CommentIdRow {
+
+    private final Long id;
+    private final Long todoId;
+
+    public CommentIdRow(Long id, Long todoId) {
+        this.id = id;
+        this.todoId = todoId;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.comment.dto.projection;
+
+import lombok.Getter;
+
+@Getter
+public class CommentIndexRow {
+
+    private final Long id;
+    private final Long todoId;
+    private final String contents;
+
+    public CommentIndexRow(Long id, Long todoId, String contents) {
+        this.id = id;
+        this.todoId = todoId;
+        this.contents = contents;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.comment.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBatchItemRequest {
+
+    private Long todoId;
+    private Long userId; // 이관 대상 댓글 작성자
+    private String contents;
+}
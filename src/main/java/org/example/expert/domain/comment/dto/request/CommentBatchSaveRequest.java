@@ -0,0 +1,17 @@
+package org.example.expert.domain.comment.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBatchSaveRequest {
+
+    @NotEmpty
+    private List<CommentSaveRequest> comments; // 항목별 검증 결과는 응답에 담는다
+}
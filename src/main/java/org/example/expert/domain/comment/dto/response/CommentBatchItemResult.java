@@ -0,0 +1,20 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CommentBatchItemResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    private final int index;
+    private final String status;
+    private final String message;
+
+    public CommentBatchItemResult(int index, String status, String message) {
+        this.index = index;
+        this.status = status;
+        this.message = message;
+    }
+}
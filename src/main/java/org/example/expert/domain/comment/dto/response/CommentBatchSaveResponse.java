@@ -0,0 +1,25 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentBatchSaveResponse {
+
+    private final int requested;
+    private final int inserted;
+    private final int rejected;
+    private final long elapsedMillis;
+    private final double rowsPerSecond;
+    private final List<CommentBatchItemResult> results;
+
+    public CommentBatchSaveResponse(int requested, int inserted, int rejected, long elapsedMillis, double rowsPerSecond, List<CommentBatchItemResult> results) {
+        this.requested = requested;
+        this.inserted = inserted;
+        this.rejected = rejected;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+        this.results = results;
+    }
+}
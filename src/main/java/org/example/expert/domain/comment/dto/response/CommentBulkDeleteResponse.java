@@ -0,0 +1,15 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CommentBulkDeleteResponse {
+
+    private final long deleted;
+    private final int chunks;
+
+    public CommentBulkDeleteResponse(long deleted, int chunks) {
+        this.deleted = deleted;
+        this.chunks = chunks;
+    }
+}
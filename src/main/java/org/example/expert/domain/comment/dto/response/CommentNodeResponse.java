@@ -0,0 +1,24 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class CommentNodeResponse {
+
+    private final Long id;
+    private final String contents;
+    private final UserResponse user;
+    private final int depth;
+    private final List<CommentNodeResponse> replies = new ArrayList<>();
+
+    public CommentNodeResponse(Long id, String contents, UserResponse user, int depth) {
+        this.id = id;
+        this.contents = contents;
+        this.user = user;
+        this.depth = depth;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentPageResponse {
+
+    private final List<CommentResponse> comments;
+    private final Long nextCursor;
+
+    public CommentPageResponse(List<CommentResponse> comments, Long nextCursor) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -9,10 +9,13 @@ public class CommentResponse {
     private final Long id;
     private final String contents;
     private final UserResponse user;
+    // PATCH 의 If-Match 에 ETag 로 보낸다
+    private final long version;
 
-    public CommentResponse(Long id, String contents, UserResponse user) {
+    public CommentResponse(Long id, String contents, UserResponse user, long version) {
         this.id = id;
         this.contents = contents;
         this.user = user;
+        this.version = version;
     }
 }
@@ -0,0 +1,18 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CommentThreadResponse {
+
+    private final CommentNodeResponse thread;
+    private final int size;
+    // 답글이 최대 개수를 넘어 잘렸으면 true
+    private final boolean truncated;
+
+    public CommentThreadResponse(CommentNodeResponse thread, int size, boolean truncated) {
+        this.thread = thread;
+        this.size = size;
+        this.truncated = truncated;
+    }
+}
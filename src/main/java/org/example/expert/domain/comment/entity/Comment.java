@@ -4,16 +4,28 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.common.id.TsidAware;
+import org.example.expert.domain.common.id.TsidId;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Entity
+@DynamicUpdate
 @NoArgsConstructor
-@Table(name = "comments")
-public class Comment extends Timestamped {
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_todo_id_id", columnList = "todo_id, id"),
+        @Index(name = "idx_comments_todo_id_path", columnList = "todo_id, path")
+})
+public class Comment extends Timestamped implements TsidAware {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final int MAX_DEPTH = 15;
+    // Long.MAX_VALUE 의 36진수 길이. 고정 길이라 path 문자열 순서가 곧 (부모, id) 순서다
+    public static final int PATH_SEGMENT_LENGTH = 13;
+
+    @Id @TsidId
     private Long id;
     private String contents;
 
@@ -25,13 +37,60 @@ public class Comment extends Timestamped {
     @JoinColumn(name = "todo_id", nullable = false)
     private Todo todo;
 
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 루트부터 자신까지 id 를 36진수 13자리로 이어 붙인 경로. 최상위 댓글은 저장하지 않고 id 로 계산한다
+    @Column(length = PATH_SEGMENT_LENGTH * (MAX_DEPTH + 1))
+    private String path;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int depth;
+
+    // 동시 수정 감지용. JDBC 일괄 INSERT 는 이 컬럼을 빼고 넣으므로 DB 기본값 0 으로 시작한다
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    // 답글의 부모 경로. id 가 정해질 때 자신의 경로를 만들고 나면 쓰지 않는다
+    @Transient
+    private String parentPath;
+
     public Comment(String contents, User user, Todo todo) {
         this.contents = contents;
         this.user = user;
         this.todo = todo;
     }
 
+    public Comment(String contents, User user, Todo todo, Comment parent) {
+        this(contents, user, todo);
+        this.parentId = parent.getId();
+        this.depth = parent.getDepth() + 1;
+        this.parentPath = parent.resolvePath();
+    }
+
     public void update(String contents) {
         this.contents = contents;
     }
+
+    /**
+     * persist 중 id 가 정해지면 답글의 경로를 채운다. INSERT 전에 채워지므로 경로를 위한 UPDATE 가 없다.
+     */
+    @Override
+    public void onIdGenerated(long id) {
+        if (parentPath != null) {
+            this.path = parentPath + pathSegment(id);
+        }
+    }
+
+    public String resolvePath() {
+        return path != null ? path : pathSegment(id);
+    }
+
+    public static String pathSegment(long id) {
+        String segment = Long.toString(id, 36);
+        return "0".repeat(PATH_SEGMENT_LENGTH - segment.length()) + segment;
+    }
 }
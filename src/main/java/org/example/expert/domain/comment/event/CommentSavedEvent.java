@@ -0,0 +1,27 @@
+package org.example.expert.domain.comment.event;
+
+import lombok.Getter;
+
+/**
+ * 댓글 저장 후 발행한다. 리스너는 커밋 이후(AFTER_COMMIT)에 받아야 롤백된 댓글이 새어 나가지 않는다.
+ */
+@Getter
+public class CommentSavedEvent {
+
+    private final Long todoId;
+    private final Long commentId;
+    private final String contents;
+    private final Long userId;
+    private final String email;
+    // 저장 직후의 버전. 구독자에게 보내는 응답의 버전(ETag)으로 쓴다
+    private final long version;
+
+    public CommentSavedEvent(Long todoId, Long commentId, String contents, Long userId, String email, long version) {
+        this.todoId = todoId;
+        this.commentId = commentId;
+        this.contents = contents;
+        this.userId = userId;
+        this.email = email;
+        this.version = version;
+    }
+}
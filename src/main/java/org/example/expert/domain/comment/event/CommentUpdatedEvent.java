@@ -0,0 +1,22 @@
+package org.example.expert.domain.comment.event;
+
+import lombok.Getter;
+
+/**
+ * Comment.update 후 발행한다. 검색 색인이 이전 term 을 빼야 하므로 수정 전 값도 담는다.
+ */
+@Getter
+public class CommentUpdatedEvent {
+
+    private final Long todoId;
+    private final Long commentId;
+    private final String previousContents;
+    private final String contents;
+
+    public CommentUpdatedEvent(Long todoId, Long commentId, String previousContents, String contents) {
+        this.todoId = todoId;
+        this.commentId = commentId;
+        this.previousContents = previousContents;
+        this.contents = contents;
+    }
+}
@@ -0,0 +1,217 @@
+package org.example.expert.domain.comment.feed;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * todo id 별 댓글 SSE 구독자 목록. 커밋된 댓글을 구독자 큐에 넣고 전송 스레드 풀에서 내보낸다.
+ */
+@Slf4j
+@Component
+public class CommentFeedBroker {
+
+    public static final String EVENT_COMMENT = "comment";
+    public static final String EVENT_RESYNC = "resync";
+
+    private final Map<Long, Set<CommentFeedSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final int maxSubscribers;
+
+    public CommentFeedBroker(
+            @Value("${comment.feed.buffer-size:256}") int bufferSize,
+            @Value("${comment.feed.timeout:30m}") Duration timeout,
+            @Value("${comment.feed.max-subscribers:10000}") int maxSubscribers,
+            @Value("${comment.feed.sender-threads:4}") int senderThreads
+    ) {
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.maxSubscribers = maxSubscribers;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "comment-feed-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 구독자를 등록한다. 반환된 구독자는 replay 를 보낸 뒤 {@link #start} 를 호출해야 실시간 이벤트를 받는다.
+     * 등록 이후 커밋된 댓글은 그 사이에도 큐에 쌓이므로 replay 와 실시간 사이에 빠지는 댓글이 없다.
+     */
+    public CommentFeedSubscriber register(long todoId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        CommentFeedSubscriber subscriber = new CommentFeedSubscriber(todoId, emitter, bufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        // remove() 가 빈 목록을 지우는 것과 겹치지 않도록 compute 안에서 추가한다
+        subscribers.compute(todoId, (id, targets) -> {
+            Set<CommentFeedSubscriber> updated = targets != null ? targets : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        return subscriber;
+    }
+
+    public void start(CommentFeedSubscriber subscriber) {
+        subscriber.markReady();
+        dispatch(subscriber);
+    }
+
+    // replay 는 요청 스레드에서 보낸다. 실패하면 구독을 끊는다.
+    public boolean sendNow(CommentFeedSubscriber subscriber, CommentResponse comment) {
+        try {
+            sendComment(subscriber, comment);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            evict(subscriber);
+            return false;
+        }
+    }
+
+    public void resync(CommentFeedSubscriber subscriber) {
+        try {
+            subscriber.getEmitter().send(SseEmitter.event().name(EVENT_RESYNC).data(""));
+        } catch (IOException | IllegalStateException e) {
+            // 어차피 끊는다
+        }
+        evict(subscriber);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentSaved(CommentSavedEvent event) {
+        Set<CommentFeedSubscriber> targets = subscribers.get(event.getTodoId());
+        if (targets == null) {
+            return;
+        }
+        for (CommentFeedSubscriber subscriber : targets) {
+            if (!subscriber.offer(event)) {
+                log.debug("Evicting slow comment feed subscriber of todo {}", event.getTodoId());
+                evict(subscriber);
+                continue;
+            }
+            dispatch(subscriber);
+        }
+    }
+
+    // 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트를 보낸다
+    @Scheduled(fixedDelayString = "${comment.feed.heartbeat-interval:15s}")
+    public void heartbeat() {
+        for (Set<CommentFeedSubscriber> targets : subscribers.values()) {
+            for (CommentFeedSubscriber subscriber : targets) {
+                // 큐가 차 있으면 이미 보낼 것이 있으므로 heartbeat 는 건너뛴다
+                if (subscriber.offer(CommentFeedSubscriber.HEARTBEAT)) {
+                    dispatch(subscriber);
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void close() {
+        sender.shutdownNow();
+        for (Set<CommentFeedSubscriber> targets : subscribers.values()) {
+            for (CommentFeedSubscriber subscriber : targets) {
+                subscriber.getEmitter().complete();
+            }
+        }
+    }
+
+    private void dispatch(CommentFeedSubscriber subscriber) {
+        if (!subscriber.isReady() || subscriber.getClosed().get()) {
+            return;
+        }
+        if (subscriber.getDraining().compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(CommentFeedSubscriber subscriber) {
+        try {
+            Object item;
+            while ((item = subscriber.getQueue().poll()) != null) {
+                if (item == CommentFeedSubscriber.HEARTBEAT) {
+                    subscriber.getEmitter().send(SseEmitter.event().comment("heartbeat"));
+                    continue;
+                }
+                CommentSavedEvent event = (CommentSavedEvent) item;
+                if (subscriber.isSent(event.getCommentId())) {
+                    continue;
+                }
+                sendComment(subscriber, new CommentResponse(
+                        event.getCommentId(),
+                        event.getContents(),
+                        new UserResponse(event.getUserId(), event.getEmail()),
+                        event.getVersion()
+                ));
+            }
+        } catch (IOException | IllegalStateException e) {
+            evict(subscriber);
+            return;
+        } finally {
+            subscriber.getDraining().set(false);
+        }
+        // drain 을 마치는 사이에 들어온 항목을 놓치지 않는다
+        if (!subscriber.getQueue().isEmpty()) {
+            dispatch(subscriber);
+        }
+    }
+
+    private void sendComment(CommentFeedSubscriber subscriber, CommentResponse comment) throws IOException {
+        subscriber.getEmitter().send(SseEmitter.event()
+                .id(String.valueOf(comment.getId()))
+                .name(EVENT_COMMENT)
+                .data(comment, MediaType.APPLICATION_JSON));
+        subscriber.markSent(comment.getId());
+    }
+
+    private void evict(CommentFeedSubscriber subscriber) {
+        if (remove(subscriber)) {
+            subscriber.getEmitter().complete();
+        }
+    }
+
+    private boolean remove(CommentFeedSubscriber subscriber) {
+        if (!subscriber.getClosed().compareAndSet(false, true)) {
+            return false;
+        }
+        subscriberCount.decrementAndGet();
+        subscriber.getQueue().clear();
+        subscribers.computeIfPresent(subscriber.getTodoId(), (id, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.expert.domain.comment.feed;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 구독자 한 명. 발행 스레드는 큐에 넣기만 하고 전송은 broker 의 전송 스레드가 한다.
+ * 큐가 가득 차면 느린 구독자로 보고 끊는다.
+ */
+@Getter
+public class CommentFeedSubscriber {
+
+    static final Object HEARTBEAT = new Object();
+
+    private final long todoId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Object> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    // replay 가 끝나기 전에는 전송 스레드가 큐를 비우지 않는다
+    private volatile boolean ready;
+    // 최근에 보낸 댓글 id. replay 와 실시간 이벤트가 겹치면 이 목록으로 중복을 거른다.
+    // 댓글 id 순서와 커밋 순서가 다를 수 있어 "마지막 id 이하" 로 거르면 늦게 커밋된 댓글이 빠진다.
+    // 겹칠 수 있는 댓글은 큐에 들어온 것뿐이므로 큐 크기만큼만 기억한다.
+    private final LinkedHashSet<Long> sentIds = new LinkedHashSet<>();
+    private final int sentWindow;
+
+    CommentFeedSubscriber(long todoId, SseEmitter emitter, int bufferSize) {
+        this.todoId = todoId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.sentWindow = bufferSize;
+    }
+
+    boolean offer(Object item) {
+        return queue.offer(item);
+    }
+
+    void markReady() {
+        this.ready = true;
+    }
+
+    synchronized boolean isSent(long eventId) {
+        return sentIds.contains(eventId);
+    }
+
+    synchronized void markSent(long eventId) {
+        sentIds.add(eventId);
+        if (sentIds.size() > sentWindow) {
+            sentIds.remove(sentIds.iterator().next());
+        }
+    }
+}
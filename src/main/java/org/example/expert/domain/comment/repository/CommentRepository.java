@@ -1,14 +1,103 @@
 package org.example.expert.domain.comment.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.comment.dto.projection.CommentExportRow;
+import org.example.expert.domain.comment.dto.projection.CommentIdRow;
+import org.example.expert.domain.comment.dto.projection.CommentIndexRow;
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findTodoIdById(@Param("commentId") Long commentId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.id = :commentId")
+    Optional<Comment> findByIdWithUser(@Param("commentId") Long commentId);
+
+    // (todo_id, path) 인덱스 범위 한 번으로 하위 답글을 부모가 자식보다 먼저 오는 순서로 읽는다
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId AND c.path LIKE :pathPrefix " +
+            "AND c.depth > :rootDepth AND c.depth <= :maxDepth " +
+            "ORDER BY c.path ASC")
+    List<Comment> findSubtreeWithUser(
+            @Param("todoId") Long todoId,
+            @Param("pathPrefix") String pathPrefix,
+            @Param("rootDepth") int rootDepth,
+            @Param("maxDepth") int maxDepth,
+            Pageable pageable
+    );
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId AND c.id > :cursor " +
+            "ORDER BY c.id ASC")
+    List<Comment> findByTodoIdAfterWithUser(@Param("todoId") Long todoId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId AND c.id < :cursor " +
+            "ORDER BY c.id DESC")
+    List<Comment> findByTodoIdBeforeWithUser(@Param("todoId") Long todoId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 엔티티가 아닌 DTO 로 받아 영속성 컨텍스트에 쌓이지 않게 한다 (호출 측에서 Stream 을 닫아야 한다)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.expert.domain.comment.dto.projection.CommentExportRow(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId " +
+            "ORDER BY c.id ASC")
+    Stream<CommentExportRow> streamByTodoId(@Param("todoId") Long todoId);
+
+    // 검색 색인 빌드용. todo id 범위의 댓글을 (todo_id, id) 인덱스 순서로 읽는다
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.expert.domain.comment.dto.projection.CommentIndexRow(c.id, c.todo.id, c.contents) " +
+            "FROM Comment c WHERE c.todo.id BETWEEN :fromTodoId AND :toTodoId " +
+            "ORDER BY c.todo.id ASC, c.id ASC")
+    Stream<CommentIndexRow> streamIndexRowsByTodoIdBetween(@Param("fromTodoId") Long fromTodoId, @Param("toTodoId") Long toTodoId);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.expert.domain.comment.dto.projection.CommentIndexRow(c.id, c.todo.id, c.contents) " +
+            "FROM Comment c WHERE c.id > :afterId AND c.todo.id <= :maxTodoId " +
+            "ORDER BY c.id ASC")
+    Stream<CommentIndexRow> streamIndexRowsAfter(@Param("afterId") Long afterId, @Param("maxTodoId") Long maxTodoId);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.projection.CommentIdRow(c.id, c.todo.id) " +
+            "FROM Comment c WHERE c.user.id = :userId AND c.id > :afterId ORDER BY c.id ASC")
+    List<CommentIdRow> findIdRowsByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.projection.CommentIdRow(c.id, c.todo.id) " +
+            "FROM Comment c WHERE c.todo.id = :todoId AND c.id > :afterId ORDER BY c.id ASC")
+    List<CommentIdRow> findIdRowsByTodoId(@Param("todoId") Long todoId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.projection.CommentIdRow(c.id, c.todo.id) " +
+            "FROM Comment c WHERE c.id IN :ids")
+    List<CommentIdRow> findIdRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.todo.id IN :todoIds")
+    int deleteAllByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
 }
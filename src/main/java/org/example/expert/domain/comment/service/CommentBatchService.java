@@ -0,0 +1,156 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.request.CommentAdminBatchSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentBatchItemRequest;
+import org.example.expert.domain.comment.dto.request.CommentBatchSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentBatchItemResult;
+import org.example.expert.domain.comment.dto.response.CommentBatchSaveResponse;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.id.TsidGenerator;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 댓글 대량 등록. Comment.id 가 IDENTITY 라 Hibernate 는 insert 를 배치로 묶지 못하므로
+ * 검증은 todo/유저 단위로 한 번씩만 하고 insert 는 JdbcTemplate 배치로 실행한다.
+ */
+@Service
+public class CommentBatchService {
+
+    private static final int MAX_ITEMS = 10_000;
+    private static final String INSERT_SQL =
+            "INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final int jdbcBatchSize;
+
+    public CommentBatchService(
+            JdbcTemplate jdbcTemplate,
+            TodoRepository todoRepository,
+            UserRepository userRepository,
+            @Value("${comment.batch.jdbc-batch-size:500}") int jdbcBatchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    @Transactional
+    public CommentBatchSaveResponse saveComments(AuthUser authUser, long todoId, CommentBatchSaveRequest request) {
+        validateSize(request.getComments().size());
+        // INSERT 가 끝날 때까지 일정을 잠가 보관 작업이 옮기지 못하게 한다
+        if (todoRepository.lockExistingIds(List.of(todoId)).isEmpty()) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        List<CommentBatchItemRequest> items = new ArrayList<>(request.getComments().size());
+        for (CommentSaveRequest comment : request.getComments()) {
+            items.add(new CommentBatchItemRequest(todoId, authUser.getId(), comment != null ? comment.getContents() : null));
+        }
+        return insert(items, Set.of(todoId), Set.of(authUser.getId()));
+    }
+
+    @Transactional
+    public CommentBatchSaveResponse saveCommentsAcrossTodos(CommentAdminBatchSaveRequest request) {
+        List<CommentBatchItemRequest> items = request.getComments();
+        validateSize(items.size());
+
+        Set<Long> todoIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (CommentBatchItemRequest item : items) {
+            if (item == null) {
+                continue;
+            }
+            if (item.getTodoId() != null) {
+                todoIds.add(item.getTodoId());
+            }
+            if (item.getUserId() != null) {
+                userIds.add(item.getUserId());
+            }
+        }
+
+        // todo, 유저 존재 여부는 IN 쿼리 한 번씩으로 확인한다. 일정은 INSERT 가 끝날 때까지 잠가 둔다
+        Set<Long> existingTodoIds = todoIds.isEmpty() ? Set.of() : new HashSet<>(todoRepository.lockExistingIds(todoIds));
+        Set<Long> existingUserIds = userIds.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingIds(userIds));
+        return insert(items, existingTodoIds, existingUserIds);
+    }
+
+    private CommentBatchSaveResponse insert(List<CommentBatchItemRequest> items, Set<Long> todoIds, Set<Long> userIds) {
+        long startNanos = System.nanoTime();
+
+        List<CommentBatchItemResult> results = new ArrayList<>(items.size());
+        List<CommentBatchItemRequest> rows = new ArrayList<>(items.size());
+        Map<Long, Long> insertedPerTodo = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            CommentBatchItemRequest item = items.get(i);
+            String rejection = validate(item, todoIds, userIds);
+            if (rejection != null) {
+                results.add(new CommentBatchItemResult(i, CommentBatchItemResult.REJECTED, rejection));
+                continue;
+            }
+            rows.add(item);
+            insertedPerTodo.merge(item.getTodoId(), 1L, Long::sum);
+            results.add(new CommentBatchItemResult(i, CommentBatchItemResult.CREATED, null));
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, jdbcBatchSize, (ps, row) -> {
+            ps.setLong(1, TsidGenerator.nextId());
+            ps.setString(2, row.getContents());
+            ps.setLong(3, row.getUserId());
+            ps.setLong(4, row.getTodoId());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        insertedPerTodo.forEach(todoRepository::addCommentCount);
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        double rowsPerSecond = elapsedNanos > 0 ? rows.size() * 1_000_000_000.0 / elapsedNanos : 0.0;
+        return new CommentBatchSaveResponse(
+                items.size(),
+                rows.size(),
+                items.size() - rows.size(),
+                elapsedNanos / 1_000_000,
+                rowsPerSecond,
+                results
+        );
+    }
+
+    private String validate(CommentBatchItemRequest item, Set<Long> todoIds, Set<Long> userIds) {
+        if (item == null || !StringUtils.hasText(item.getContents())) {
+            return "댓글 내용이 비어있습니다.";
+        }
+        if (item.getTodoId() == null || !todoIds.contains(item.getTodoId())) {
+            return "Todo not found";
+        }
+        if (item.getUserId() == null || !userIds.contains(item.getUserId())) {
+            return "User not found";
+        }
+        return null;
+    }
+
+    private void validateSize(int size) {
+        if (size > MAX_ITEMS) {
+            throw new InvalidRequestException("한 번에 등록할 수 있는 댓글은 " + MAX_ITEMS + "개 이하입니다.");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.projection.CommentIdRow;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * 관리자용 댓글 일괄 삭제. 삭제할 id 를 chunk-size 개씩 조회해 chunk 마다 별도 트랜잭션에서
+ * DELETE ... WHERE id IN (...) 한 번으로 지우므로 락을 오래 잡지 않는다.
+ */
+@Service
+public class CommentBulkDeleteService {
+
+    private static final int MAX_IDS = 10_000;
+
+    private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CommentBulkDeleteService(
+            CommentRepository commentRepository,
+            TodoRepository todoRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${comment.bulk-delete.chunk-size:1000}") int chunkSize
+    ) {
+        this.commentRepository = commentRepository;
+        this.todoRepository = todoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public CommentBulkDeleteResponse deleteByUser(long userId) {
+        return deleteChunks(afterId -> commentRepository.findIdRowsByUserId(userId, afterId, PageRequest.of(0, chunkSize)));
+    }
+
+    public CommentBulkDeleteResponse deleteByTodo(long todoId) {
+        return deleteChunks(afterId -> commentRepository.findIdRowsByTodoId(todoId, afterId, PageRequest.of(0, chunkSize)));
+    }
+
+    public CommentBulkDeleteResponse deleteByIds(List<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinctIds.size() > MAX_IDS) {
+            throw new InvalidRequestException("한 번에 삭제할 수 있는 댓글은 " + MAX_IDS + "개 이하입니다.");
+        }
+
+        long deleted = 0;
+        int chunks = 0;
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            Integer count = transactionTemplate.execute(status -> deleteRows(commentRepository.findIdRowsByIdIn(chunk)));
+            deleted += count != null ? count : 0;
+            chunks++;
+        }
+        return new CommentBulkDeleteResponse(deleted, chunks);
+    }
+
+    // fetch 는 afterId 보다 큰 id 를 id 순으로 chunk-size 개까지 돌려준다
+    private CommentBulkDeleteResponse deleteChunks(LongFunction<List<CommentIdRow>> fetch) {
+        long[] deleted = {0L};
+        int chunks = 0;
+        long afterId = 0L;
+        while (true) {
+            long cursor = afterId;
+            List<CommentIdRow> rows = transactionTemplate.execute(status -> {
+                List<CommentIdRow> chunk = fetch.apply(cursor);
+                deleted[0] += deleteRows(chunk);
+                return chunk;
+            });
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            chunks++;
+            afterId = rows.get(rows.size() - 1).getId();
+            if (rows.size() < chunkSize) {
+                break;
+            }
+        }
+        return new CommentBulkDeleteResponse(deleted[0], chunks);
+    }
+
+    private int deleteRows(List<CommentIdRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        Map<Long, Long> deletedPerTodo = new HashMap<>();
+        for (CommentIdRow row : rows) {
+            ids.add(row.getId());
+            deletedPerTodo.merge(row.getTodoId(), 1L, Long::sum);
+        }
+
+        int deleted = commentRepository.deleteAllByIdIn(ids);
+        deletedPerTodo.forEach((todoId, count) -> todoRepository.addCommentCount(todoId, -count));
+        return deleted;
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.projection.CommentExportRow;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 일정의 댓글 전체를 한 번에 내려준다. 목록을 만들지 않고 forward-only 결과셋에서
+ * 한 행씩 읽어 바로 쓰기 때문에 스레드 길이와 무관하게 메모리 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentExportService {
+
+    public static final String FORMAT_NDJSON = "ndjson";
+    public static final String FORMAT_JSON = "json";
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+
+    public void validate(long todoId, String format) {
+        if (!FORMAT_NDJSON.equals(format) && !FORMAT_JSON.equals(format)) {
+            throw new InvalidRequestException("format 은 ndjson 또는 json 이어야 합니다.");
+        }
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void export(long todoId, String format, OutputStream out) throws IOException {
+        boolean ndjson = FORMAT_NDJSON.equals(format);
+
+        // 응답 스트림은 컨테이너가 닫으므로 generator 가 닫지 않게 한다
+        try (Stream<CommentExportRow> rows = commentRepository.streamByTodoId(todoId);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            if (ndjson) {
+                // 최상위 값 사이에 기본으로 넣는 공백을 빼야 각 줄이 '{' 로 시작한다
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+
+            Iterator<CommentExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writeRow(generator, iterator.next());
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+            }
+
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    // CommentResponse 와 같은 모양으로 쓴다
+    private void writeRow(JsonGenerator generator, CommentExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getId());
+        generator.writeStringField("contents", row.getContents());
+        generator.writeObjectFieldStart("user");
+        generator.writeNumberField("id", row.getUserId());
+        generator.writeStringField("email", row.getEmail());
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+}
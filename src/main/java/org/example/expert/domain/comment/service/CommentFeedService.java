@@ -0,0 +1,75 @@
+package org.example.expert.domain.comment.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.feed.CommentFeedBroker;
+import org.example.expert.domain.comment.feed.CommentFeedSubscriber;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CommentFeedService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final CommentFeedBroker commentFeedBroker;
+
+    @Value("${comment.feed.replay-limit:500}")
+    private int replayLimit;
+
+    @Value("${comment.feed.retry-after:5s}")
+    private Duration retryAfter;
+
+    public SseEmitter subscribe(long todoId, Long lastEventId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        CommentFeedSubscriber subscriber = commentFeedBroker.register(todoId);
+        if (subscriber == null) {
+            throw new ServiceUnavailableException("댓글 구독자 수가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+        }
+
+        // 등록 후에 replay 를 조회해야 그 사이 커밋된 댓글이 빠지지 않는다. 겹치는 댓글은 보낸 id 목록으로 거른다.
+        if (lastEventId != null && !replay(subscriber, todoId, lastEventId)) {
+            return subscriber.getEmitter();
+        }
+        commentFeedBroker.start(subscriber);
+        return subscriber.getEmitter();
+    }
+
+    private boolean replay(CommentFeedSubscriber subscriber, long todoId, long lastEventId) {
+        List<Comment> missed = commentRepository.findByTodoIdAfterWithUser(todoId, lastEventId, PageRequest.of(0, replayLimit + 1));
+        // 놓친 댓글이 너무 많으면 목록 API 로 다시 받도록 알리고 끊는다
+        if (missed.size() > replayLimit) {
+            commentFeedBroker.resync(subscriber);
+            return false;
+        }
+        for (Comment comment : missed) {
+            User user = comment.getUser();
+            CommentResponse response = new CommentResponse(
+                    comment.getId(),
+                    comment.getContents(),
+                    new UserResponse(user.getId(), user.getEmail()),
+                    comment.getVersion()
+            );
+            if (!commentFeedBroker.sendNow(subscriber, response)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
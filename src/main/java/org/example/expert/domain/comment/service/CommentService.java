@@ -2,9 +2,13 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentNodeResponse;
+import org.example.expert.domain.comment.dto.response.CommentPageResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentThreadResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
@@ -12,25 +16,38 @@ import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_THREAD_SIZE = 1_000;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        // 카운터 UPDATE 가 존재 확인을 겸하고 일정 행을 잠가, INSERT 전에 보관 작업이 일정을 옮기지 못하게 한다.
+        // FK 에는 로딩하지 않은 참조를 쓴다
+        if (todoRepository.addCommentCount(todoId, 1) == 0) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        Todo todo = todoRepository.getReferenceById(todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -39,6 +56,14 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        eventPublisher.publishEvent(new CommentSavedEvent(
+                todoId,
+                savedComment.getId(),
+                savedComment.getContents(),
+                user.getId(),
+                user.getEmail(),
+                savedComment.getVersion()
+        ));
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -47,8 +72,110 @@ public class CommentService {
         );
     }
 
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+    @Transactional
+    public CommentSaveResponse saveReply(AuthUser authUser, long todoId, long parentId, CommentSaveRequest commentSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        Comment parent = commentRepository.findById(parentId).orElseThrow(() ->
+                new InvalidRequestException("Comment not found"));
+
+        if (parent.getTodo().getId() != todoId) {
+            throw new InvalidRequestException("해당 일정의 댓글이 아닙니다.");
+        }
+        if (parent.getDepth() >= Comment.MAX_DEPTH) {
+            throw new InvalidRequestException("답글은 " + Comment.MAX_DEPTH + "단계까지만 달 수 있습니다.");
+        }
+
+        // 부모를 읽은 뒤 일정이 보관되었을 수 있으므로 INSERT 전에 일정 행을 잠그며 다시 확인한다
+        if (todoRepository.addCommentCount(todoId, 1) == 0) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        Comment reply = new Comment(
+                commentSaveRequest.getContents(),
+                user,
+                parent.getTodo(),
+                parent
+        );
+
+        // 경로는 persist 중 id 가 정해질 때 함께 채워지므로 INSERT 한 번으로 저장된다 (Comment#onIdGenerated)
+        Comment savedReply = commentRepository.save(reply);
+        eventPublisher.publishEvent(new CommentSavedEvent(
+                todoId,
+                savedReply.getId(),
+                savedReply.getContents(),
+                user.getId(),
+                user.getEmail(),
+                savedReply.getVersion()
+        ));
+
+        return new CommentSaveResponse(
+                savedReply.getId(),
+                savedReply.getContents(),
+                new UserResponse(user.getId(), user.getEmail())
+        );
+    }
+
+    /**
+     * commentId 를 루트로 하는 답글 트리를 depth 단계까지 돌려준다.
+     * 하위 답글은 path 범위 쿼리 한 번으로 읽고, path 순서라 부모가 먼저 나오므로 한 번 순회로 조립한다.
+     */
+    public CommentThreadResponse getThread(long todoId, long commentId, int depth) {
+        if (depth < 0 || depth > Comment.MAX_DEPTH) {
+            throw new InvalidRequestException("depth 는 0 이상 " + Comment.MAX_DEPTH + " 이하여야 합니다.");
+        }
+
+        Comment root = commentRepository.findByIdWithUser(commentId)
+                .filter(comment -> comment.getTodo().getId() == todoId)
+                .orElseThrow(() -> new InvalidRequestException("Comment not found"));
+
+        List<Comment> descendants = depth == 0
+                ? List.of()
+                : commentRepository.findSubtreeWithUser(
+                        todoId,
+                        root.resolvePath() + "%",
+                        root.getDepth(),
+                        root.getDepth() + depth,
+                        PageRequest.of(0, MAX_THREAD_SIZE + 1)
+                );
+        boolean truncated = descendants.size() > MAX_THREAD_SIZE;
+        if (truncated) {
+            descendants = descendants.subList(0, MAX_THREAD_SIZE);
+        }
+
+        CommentNodeResponse rootNode = toNode(root);
+        Map<Long, CommentNodeResponse> nodes = new HashMap<>();
+        nodes.put(root.getId(), rootNode);
+        int size = 1;
+        for (Comment comment : descendants) {
+            // 부모가 삭제되었거나 잘린 범위 밖이면 그 아래는 건너뛴다
+            CommentNodeResponse parent = nodes.get(comment.getParentId());
+            if (parent == null) {
+                continue;
+            }
+            CommentNodeResponse node = toNode(comment);
+            parent.getReplies().add(node);
+            nodes.put(comment.getId(), node);
+            size++;
+        }
+        return new CommentThreadResponse(rootNode, size, truncated);
+    }
+
+    public CommentPageResponse getComments(long todoId, Long cursor, int size, boolean newestFirst) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 size + 1 개를 조회한다
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Comment> commentList = newestFirst
+                ? commentRepository.findByTodoIdBeforeWithUser(todoId, cursor != null ? cursor : Long.MAX_VALUE, pageable)
+                : commentRepository.findByTodoIdAfterWithUser(todoId, cursor != null ? cursor : 0L, pageable);
+
+        Long nextCursor = null;
+        if (commentList.size() > size) {
+            commentList = commentList.subList(0, size);
+            nextCursor = commentList.get(size - 1).getId();
+        }
 
         List<CommentResponse> dtoList = new ArrayList<>();
         for (Comment comment : commentList) {
@@ -56,11 +183,21 @@ public class CommentService {
             CommentResponse dto = new CommentResponse(
                     comment.getId(),
                     comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
+                    new UserResponse(user.getId(), user.getEmail()),
+                    comment.getVersion()
             );
             dtoList.add(dto);
         }
-        return dtoList;
+        return new CommentPageResponse(dtoList, nextCursor);
     }
 
+    private CommentNodeResponse toNode(Comment comment) {
+        User user = comment.getUser();
+        return new CommentNodeResponse(
+                comment.getId(),
+                comment.getContents(),
+                new UserResponse(user.getId(), user.getEmail()),
+                comment.getDepth()
+        );
+    }
 }
@@ -0,0 +1,103 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.request.CommentUpdateRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentUpdatedEvent;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * 댓글 수정(PATCH). TodoUpdateService 와 같은 방식으로 @Version 과 If-Match 로 동시 수정을 막는다.
+ * 바꿀 수 있는 필드가 내용 하나뿐이라, 재시도 때는 그 사이 내용이 바뀌지 않은 경우(경로 등 다른 컬럼만 바뀐 경우)에만 다시 적용한다.
+ */
+@Service
+public class CommentUpdateService {
+
+    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+
+    public CommentUpdateService(
+            CommentRepository commentRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${optimistic-lock.max-attempts:3}") int maxAttempts
+    ) {
+        this.commentRepository = commentRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+    }
+
+    public CommentResponse updateComment(AuthUser authUser, long commentId, long expectedVersion, CommentUpdateRequest request) {
+        // 첫 시도에서 If-Match 버전으로 확인한 내용. 재시도 때 다른 수정이 내용을 바꿨는지 비교한다
+        BaseValues base = new BaseValues();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> tryUpdate(authUser, commentId, expectedVersion, request, base));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw new PreconditionFailedException("동시 수정이 계속 충돌했습니다. 다시 조회한 뒤 수정해 주세요.", null);
+                }
+            }
+        }
+    }
+
+    private CommentResponse tryUpdate(AuthUser authUser, long commentId, long expectedVersion, CommentUpdateRequest request, BaseValues base) {
+        Comment comment = commentRepository.findByIdWithUser(commentId)
+                .orElseThrow(() -> new InvalidRequestException("Comment not found"));
+        User user = comment.getUser();
+        if (user == null || !ObjectUtils.nullSafeEquals(authUser.getId(), user.getId())) {
+            throw new InvalidRequestException("해당 댓글을 작성한 유저가 유효하지 않습니다.");
+        }
+
+        if (!base.captured) {
+            if (comment.getVersion() != expectedVersion) {
+                throw new PreconditionFailedException("다른 사용자가 먼저 수정했습니다. 다시 조회한 뒤 수정해 주세요.", comment.getVersion());
+            }
+            base.captured = true;
+            base.contents = comment.getContents();
+        } else if (!ObjectUtils.nullSafeEquals(base.contents, comment.getContents())) {
+            throw new PreconditionFailedException("다른 사용자가 같은 필드를 먼저 수정했습니다. 다시 조회한 뒤 수정해 주세요.", comment.getVersion());
+        }
+
+        String previousContents = comment.getContents();
+        if (!request.getContents().equals(previousContents)) {
+            comment.update(request.getContents());
+            // 바뀐 컬럼만 "WHERE id = ? AND version = ?" 로 UPDATE 한다. 충돌은 여기서 드러난다
+            commentRepository.flush();
+            eventPublisher.publishEvent(new CommentUpdatedEvent(
+                    comment.getTodo().getId(),
+                    comment.getId(),
+                    previousContents,
+                    comment.getContents()
+            ));
+        }
+
+        return new CommentResponse(
+                comment.getId(),
+                comment.getContents(),
+                new UserResponse(user.getId(), user.getEmail()),
+                comment.getVersion()
+        );
+    }
+
+    private static final class BaseValues {
+
+        private boolean captured;
+        private String contents;
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.expert.domain.common.etag;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionRequiredException;
+
+/**
+ * 엔티티 @Version 값을 강한 ETag("3") 로 주고받는다.
+ * If-Match 는 이 API 가 돌려준 ETag 하나만 받는다. 목록, * , 약한 ETag 는 잃어버린 수정을 막을 수 없어 거절한다.
+ */
+public final class VersionETag {
+
+    private VersionETag() {
+    }
+
+    public static String format(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new PreconditionRequiredException("수정하려면 If-Match 헤더에 조회 때 받은 ETag 를 보내야 합니다.");
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            throw new InvalidRequestException("If-Match 에는 ETag 하나만 보낼 수 있습니다.");
+        }
+        try {
+            long version = Long.parseLong(tag.substring(1, tag.length() - 1));
+            if (version < 0) {
+                throw new NumberFormatException();
+            }
+            return version;
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("잘못된 ETag 입니다.");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class PreconditionFailedException extends RuntimeException {
+
+    // 응답 ETag 로 돌려줄 현재 버전. 알 수 없으면 null
+    private final Long currentVersion;
+
+    public PreconditionFailedException(String message, Long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.common.exception;
+
+public class PreconditionRequiredException extends RuntimeException {
+
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+}
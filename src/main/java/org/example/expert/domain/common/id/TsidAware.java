@@ -0,0 +1,10 @@
+package org.example.expert.domain.common.id;
+
+/**
+ * {@link TsidId} 엔티티가 구현하면 persist 중 id 가 정해질 때 호출된다.
+ * Hibernate 가 INSERT 할 값을 읽기 전이므로 id 로 계산하는 컬럼을 여기서 채우면 UPDATE 없이 INSERT 한 번으로 저장된다.
+ */
+public interface TsidAware {
+
+    void onIdGenerated(long id);
+}
@@ -0,0 +1,73 @@
+package org.example.expert.domain.common.id;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순으로 증가하는 53비트 id. [2024-01-01 이후 밀리초 40비트][노드 5비트][순번 8비트]
+ * <p>
+ * DB 를 거치지 않고 id 를 정하므로 Hibernate 가 INSERT 를 JDBC 배치로 묶을 수 있고, JDBC 로 직접 넣는 경로도 같은 id 를 쓴다.
+ * 2^53 미만이라 JSON 으로 내보내도 JavaScript 숫자에서 정밀도를 잃지 않는다. 2058년까지 쓸 수 있다.
+ * <p>
+ * 같은 밀리초에 순번(256개)을 다 쓰거나 시계가 뒤로 가면 마지막 시각을 앞당겨 쓰므로 한 노드 안에서는 항상 증가한다.
+ */
+public final class TsidGenerator {
+
+    // 2024-01-01T00:00:00Z
+    public static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    public static final int MAX_NODE = 31;
+
+    private static final int NODE_BITS = 5;
+    private static final int SEQUENCE_BITS = 8;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << 40) - 1;
+
+    private static volatile TsidGenerator shared = new TsidGenerator(0, System::currentTimeMillis);
+
+    private final long node;
+    private final LongSupplier clock;
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    public TsidGenerator(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("node 는 0 이상 " + MAX_NODE + " 이하여야 합니다: " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    /**
+     * 애플리케이션 전체가 쓰는 생성기에서 id 를 하나 받는다.
+     */
+    public static long nextId() {
+        return shared.next();
+    }
+
+    /**
+     * 시작 시 한 번 노드 번호를 정한다. 여러 인스턴스를 띄우면 인스턴스마다 달라야 한다.
+     */
+    public static void configure(int node) {
+        shared = new TsidGenerator(node, System::currentTimeMillis);
+    }
+
+    public synchronized long next() {
+        long timestamp = clock.getAsLong() - EPOCH_MILLIS;
+        if (timestamp > lastTimestamp) {
+            lastTimestamp = timestamp;
+            sequence = 0;
+        } else {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                lastTimestamp++;
+            }
+        }
+        if (lastTimestamp < 0 || lastTimestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("id 시각 범위를 벗어났습니다: " + lastTimestamp);
+        }
+        return (lastTimestamp << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+
+    public static long timestampMillis(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+}
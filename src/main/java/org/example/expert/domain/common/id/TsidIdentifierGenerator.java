@@ -0,0 +1,16 @@
+package org.example.expert.domain.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+public class TsidIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        long id = TsidGenerator.nextId();
+        if (object instanceof TsidAware aware) {
+            aware.onIdGenerated(id);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.manager.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.annotation.AccessRecord;
+import org.example.expert.domain.manager.dto.request.ManagerAdminBatchSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
+import org.example.expert.domain.manager.service.ManagerBatchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class ManagerAdminController {
+
+    private final ManagerBatchService managerBatchService;
+
+    @AccessRecord
+    @PostMapping("/admin/managers:batch")
+    public ResponseEntity<ManagerBatchSaveResponse> saveManagers(
+            @Valid @RequestBody ManagerAdminBatchSaveRequest managerAdminBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(managerBatchService.saveManagersAcrossTodos(managerAdminBatchSaveRequest));
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.manager.dto.projection;
+
+import lombok.Getter;
+
+@Getter
+public class ManagerPairRow {
+
+    private final Long todoId;
+    private final Long userId;
+
+    public ManagerPairRow(Long todoId, Long userId) {
+        this.todoId = todoId;
+        this.userId = userId;
+    }
+}
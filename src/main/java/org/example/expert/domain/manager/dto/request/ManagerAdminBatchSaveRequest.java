@@ -0,0 +1,17 @@
+package org.example.expert.domain.manager.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerAdminBatchSaveRequest {
+
+    @NotEmpty
+    private List<ManagerBatchItemRequest> managers;
+}
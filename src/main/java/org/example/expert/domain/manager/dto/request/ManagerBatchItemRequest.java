@@ -0,0 +1,14 @@
+package org.example.expert.domain.manager.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerBatchItemRequest {
+
+    private Long todoId;
+    private Long managerUserId;
+}
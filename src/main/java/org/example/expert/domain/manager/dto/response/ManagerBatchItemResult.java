@@ -0,0 +1,25 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class ManagerBatchItemResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String SKIPPED = "SKIPPED";
+    public static final String REJECTED = "REJECTED";
+
+    private final int index;
+    private final Long todoId;
+    private final Long managerUserId;
+    private final String status;
+    private final String message;
+
+    public ManagerBatchItemResult(int index, Long todoId, Long managerUserId, String status, String message) {
+        this.index = index;
+        this.todoId = todoId;
+        this.managerUserId = managerUserId;
+        this.status = status;
+        this.message = message;
+    }
+}
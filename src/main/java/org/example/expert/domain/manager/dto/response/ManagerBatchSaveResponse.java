@@ -0,0 +1,23 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ManagerBatchSaveResponse {
+
+    private final int requested;
+    private final int inserted;
+    private final int skipped;
+    private final int rejected;
+    private final List<ManagerBatchItemResult> results;
+
+    public ManagerBatchSaveResponse(int requested, int inserted, int skipped, int rejected, List<ManagerBatchItemResult> results) {
+        this.requested = requested;
+        this.inserted = inserted;
+        this.skipped = skipped;
+        this.rejected = rejected;
+        this.results = results;
+    }
+}
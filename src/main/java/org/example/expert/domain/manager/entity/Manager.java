@@ -3,16 +3,22 @@ package org.example.expert.domain.manager.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.id.TsidId;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(name = "managers", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_managers_todo_id_user_id", columnNames = {"todo_id", "user_id"})
+}, indexes = {
+        // 유저가 담당하는 일정 목록 조회용
+        @Index(name = "idx_managers_user_id_todo_id", columnList = "user_id, todo_id")
+})
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TsidId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,16 @@
+package org.example.expert.domain.manager.event;
+
+import lombok.Getter;
+import org.example.expert.domain.manager.dto.projection.ManagerPairRow;
+
+import java.util.List;
+
+@Getter
+public class ManagersAssignedEvent {
+
+    private final List<ManagerPairRow> assignments;
+
+    public ManagersAssignedEvent(List<ManagerPairRow> assignments) {
+        this.assignments = assignments;
+    }
+}
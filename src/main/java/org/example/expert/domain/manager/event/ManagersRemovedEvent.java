@@ -0,0 +1,18 @@
+package org.example.expert.domain.manager.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+
+/**
+ * 담당자가 빠진 일정들. 조건부 DELETE 는 지운 담당자가 누구인지 돌려주지 않으므로 일정 단위로 알린다.
+ */
+@Getter
+public class ManagersRemovedEvent {
+
+    private final Collection<Long> todoIds;
+
+    public ManagersRemovedEvent(Collection<Long> todoIds) {
+        this.todoIds = todoIds;
+    }
+}
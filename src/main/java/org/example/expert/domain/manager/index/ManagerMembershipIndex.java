@@ -0,0 +1,287 @@
+package org.example.expert.domain.manager.index;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.archive.event.TodosArchivedEvent;
+import org.example.expert.domain.manager.dto.projection.ManagerPairRow;
+import org.example.expert.domain.manager.event.ManagersAssignedEvent;
+import org.example.expert.domain.manager.event.ManagersRemovedEvent;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.event.TodosDeletedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * todo id → 담당자 user id 메모리 색인. "이 유저가 이 일정의 담당자인가" 를 DB 조회 없이 확인한다.
+ * <ul>
+ *     <li>시작 시 managers 테이블을 (todo_id, user_id) 만 흘려 읽어 채운다.</li>
+ *     <li>커밋된 담당자 등록/삭제, 일정 생성/삭제/보관 이벤트로 갱신한다.</li>
+ * </ul>
+ * 적재 중에 들어온 이벤트는 모아 두었다가 적재가 끝나면 순서대로 다시 적용한다. 등록/삭제는 멱등이라
+ * 적재 결과에 이미 반영된 이벤트를 한 번 더 적용해도 결과가 같다.
+ * <p>
+ * 담당자 삭제 이벤트에는 일정 id 만 있으므로(삭제 요청이 지운 담당자를 미리 읽지 않는다) 그 일정의 담당자를
+ * 적재 스레드에서 락 밖으로 다시 읽어 바꿔 끼운다. 읽는 사이 같은 일정에 다른 이벤트가 적용됐으면 다시 읽는다.
+ * <p>
+ * {@link #isReady()} 가 false 인 동안에는 결과를 믿지 말고 DB 로 확인해야 한다.
+ */
+@Slf4j
+@Component
+public class ManagerMembershipIndex {
+
+    private final ManagerRepository managerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "manager-membership-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final int MAX_RESYNC_ATTEMPTS = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private MembershipTable table = new MembershipTable();
+    // 다시 읽기를 기다리는 일정 → 읽는 동안 그 일정에 다른 이벤트가 적용됐는지 (write lock)
+    private final Map<Long, Boolean> resyncing = new HashMap<>();
+    // 적재 중이면 null 이 아니다 (write lock)
+    private List<Object> missedDuringLoad = new ArrayList<>();
+    private volatile boolean ready;
+
+    public ManagerMembershipIndex(
+            ManagerRepository managerRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.managerRepository = managerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("manager.membership.todos", this, index -> index.read(MembershipTable::todoCount))
+                .description("담당자 색인에 올라간 일정 수")
+                .register(meterRegistry);
+        Gauge.builder("manager.membership.assignments", this, index -> index.read(MembershipTable::assignmentCount))
+                .description("담당자 색인에 올라간 (일정, 담당자) 쌍 수")
+                .register(meterRegistry);
+        Gauge.builder("manager.membership.memory", this, index -> index.read(MembershipTable::estimatedBytes))
+                .description("담당자 색인의 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        loader.execute(this::load);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isManager(long todoId, long userId) {
+        lock.readLock().lock();
+        try {
+            return table.contains(todoId, userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 담당자 user id 를 오름차순으로 돌려준다. 호출자가 바꿔도 색인에는 영향이 없다.
+     */
+    public long[] managersOf(long todoId) {
+        lock.readLock().lock();
+        try {
+            return table.get(todoId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoSaved(TodoSavedEvent event) {
+        handle(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodosDeleted(TodosDeletedEvent event) {
+        handle(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodosArchived(TodosArchivedEvent event) {
+        handle(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onManagersAssigned(ManagersAssignedEvent event) {
+        handle(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onManagersRemoved(ManagersRemovedEvent event) {
+        handle(event);
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        loader.shutdownNow();
+        loader.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void load() {
+        long startedAt = System.nanoTime();
+        MembershipTable loaded = new MembershipTable();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ManagerPairRow> rows = managerRepository.streamAllPairs()) {
+                    rows.forEach(row -> loaded.add(row.getTodoId(), row.getUserId()));
+                }
+            });
+        } catch (RuntimeException e) {
+            // ready 가 false 로 남으므로 호출자는 계속 DB 로 확인한다
+            log.error("Failed to load manager membership index", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Object event : missedDuringLoad) {
+                apply(loaded, event);
+            }
+            table = loaded;
+            missedDuringLoad = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Manager membership index loaded: todos={}, assignments={}, ~{} bytes in {} ms",
+                loaded.todoCount(), loaded.assignmentCount(), loaded.estimatedBytes(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private void handle(Object event) {
+        lock.writeLock().lock();
+        try {
+            if (missedDuringLoad != null) {
+                missedDuringLoad.add(event);
+                return;
+            }
+            apply(table, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(MembershipTable target, Object event) {
+        if (event instanceof TodoSavedEvent saved) {
+            // 일정을 만들면 작성자가 담당자로 함께 저장된다
+            if (saved.getUserId() != null) {
+                target.add(saved.getTodoId(), saved.getUserId());
+                touched(saved.getTodoId());
+            }
+        } else if (event instanceof TodosDeletedEvent deleted) {
+            for (Long todoId : deleted.getTodoIds()) {
+                target.removeAll(todoId);
+                touched(todoId);
+            }
+        } else if (event instanceof TodosArchivedEvent archived) {
+            // 보관된 일정의 담당자는 managers 에서 빠지므로 색인에서도 뺀다
+            for (Long todoId : archived.getTodoIds()) {
+                target.removeAll(todoId);
+                touched(todoId);
+            }
+        } else if (event instanceof ManagersAssignedEvent assigned) {
+            for (ManagerPairRow pair : assigned.getAssignments()) {
+                target.add(pair.getTodoId(), pair.getUserId());
+                touched(pair.getTodoId());
+            }
+        } else if (event instanceof ManagersRemovedEvent removed) {
+            for (Long todoId : removed.getTodoIds()) {
+                scheduleResync(todoId);
+            }
+        }
+    }
+
+    // write lock 안에서 호출한다. 이미 다시 읽는 중이면 그 결과가 이 삭제 전일 수 있으므로 한 번 더 읽게 한다
+    private void scheduleResync(Long todoId) {
+        if (resyncing.containsKey(todoId)) {
+            resyncing.put(todoId, true);
+            return;
+        }
+        resyncing.put(todoId, false);
+        loader.execute(() -> resync(todoId));
+    }
+
+    private void touched(Long todoId) {
+        resyncing.computeIfPresent(todoId, (id, changed) -> true);
+    }
+
+    private void resync(Long todoId) {
+        for (int attempt = 1; attempt <= MAX_RESYNC_ATTEMPTS; attempt++) {
+            List<Long> userIds;
+            try {
+                userIds = readOnlyTransaction.execute(status -> managerRepository.findUserIdsByTodoId(todoId));
+            } catch (RuntimeException e) {
+                log.error("Failed to resync manager membership of todo {}", todoId, e);
+                finishResync(todoId);
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                if (!resyncing.get(todoId)) {
+                    table.removeAll(todoId);
+                    for (Long userId : userIds) {
+                        table.add(todoId, userId);
+                    }
+                    resyncing.remove(todoId);
+                    return;
+                }
+                resyncing.put(todoId, false);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.warn("Gave up resyncing manager membership of todo {} after {} attempts", todoId, MAX_RESYNC_ATTEMPTS);
+        finishResync(todoId);
+    }
+
+    private void finishResync(Long todoId) {
+        lock.writeLock().lock();
+        try {
+            resyncing.remove(todoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private double read(ToLongFunction<MembershipTable> metric) {
+        lock.readLock().lock();
+        try {
+            return metric.applyAsLong(table);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
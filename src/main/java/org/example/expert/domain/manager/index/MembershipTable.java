@@ -0,0 +1,182 @@
+package org.example.expert.domain.manager.index;
+
+import java.util.Arrays;
+
+/**
+ * todo id → 담당자 user id 정렬 배열. 키는 open addressing(선형 탐사) long 배열에 두어 박싱 없이 찾는다.
+ * 0 은 빈 칸 표시로 쓰므로 todo id 는 1 이상이어야 한다.
+ * <p>
+ * 스레드 안전하지 않다. {@link ManagerMembershipIndex} 의 락 안에서만 사용한다.
+ */
+final class MembershipTable {
+
+    private static final long[] EMPTY = new long[0];
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private long[][] values;
+    private int mask;
+    private int size;
+    private long assignments;
+
+    MembershipTable() {
+        this(1024);
+    }
+
+    MembershipTable(int expectedTodos) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedTodos / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new long[capacity][];
+        this.mask = capacity - 1;
+    }
+
+    boolean contains(long todoId, long userId) {
+        int slot = find(todoId);
+        return slot >= 0 && Arrays.binarySearch(values[slot], userId) >= 0;
+    }
+
+    long[] get(long todoId) {
+        int slot = find(todoId);
+        return slot >= 0 ? values[slot].clone() : EMPTY;
+    }
+
+    boolean add(long todoId, long userId) {
+        int slot = find(todoId);
+        if (slot < 0) {
+            if (size + 1 > keys.length * LOAD_FACTOR) {
+                resize(keys.length * 2);
+                slot = find(todoId);
+            }
+            slot = -slot - 1;
+            keys[slot] = todoId;
+            values[slot] = new long[]{userId};
+            size++;
+            assignments++;
+            return true;
+        }
+
+        long[] users = values[slot];
+        int position = Arrays.binarySearch(users, userId);
+        if (position >= 0) {
+            return false;
+        }
+        position = -position - 1;
+        long[] updated = new long[users.length + 1];
+        System.arraycopy(users, 0, updated, 0, position);
+        updated[position] = userId;
+        System.arraycopy(users, position, updated, position + 1, users.length - position);
+        values[slot] = updated;
+        assignments++;
+        return true;
+    }
+
+    boolean remove(long todoId, long userId) {
+        int slot = find(todoId);
+        if (slot < 0) {
+            return false;
+        }
+        long[] users = values[slot];
+        int position = Arrays.binarySearch(users, userId);
+        if (position < 0) {
+            return false;
+        }
+        assignments--;
+        if (users.length == 1) {
+            removeSlot(slot);
+            return true;
+        }
+        long[] updated = new long[users.length - 1];
+        System.arraycopy(users, 0, updated, 0, position);
+        System.arraycopy(users, position + 1, updated, position, users.length - position - 1);
+        values[slot] = updated;
+        return true;
+    }
+
+    int removeAll(long todoId) {
+        int slot = find(todoId);
+        if (slot < 0) {
+            return 0;
+        }
+        int removed = values[slot].length;
+        assignments -= removed;
+        removeSlot(slot);
+        return removed;
+    }
+
+    int todoCount() {
+        return size;
+    }
+
+    long assignmentCount() {
+        return assignments;
+    }
+
+    /**
+     * 배열 헤더(16 bytes), 참조(압축 oop 4 bytes) 기준의 근사치.
+     */
+    long estimatedBytes() {
+        long bytes = align(16 + 8L * keys.length) + align(16 + 4L * values.length);
+        for (long[] users : values) {
+            if (users != null) {
+                bytes += align(16 + 8L * users.length);
+            }
+        }
+        return bytes;
+    }
+
+    // 있으면 slot, 없으면 -(넣을 slot) - 1
+    private int find(long todoId) {
+        int slot = hash(todoId) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == todoId) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    // 뒤따르는 항목을 당겨 채워서 tombstone 없이 지운다
+    private void removeSlot(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != 0) {
+            int home = hash(keys[next]) & mask;
+            // next 의 원래 자리가 (hole, next] 구간 밖이면 hole 로 옮길 수 있다
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = 0;
+        values[hole] = null;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[][] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity][];
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = -find(oldKeys[i]) - 1;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
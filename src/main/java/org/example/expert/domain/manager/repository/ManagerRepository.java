@@ -1,13 +1,63 @@
 package org.example.expert.domain.manager.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.manager.dto.projection.ManagerPairRow;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.manager.dto.projection.ManagerPairRow(m.todo.id, m.user.id) " +
+            "FROM Manager m WHERE m.todo.id IN :todoIds AND m.user.id IN :userIds")
+    List<ManagerPairRow> findPairs(@Param("todoIds") Collection<Long> todoIds, @Param("userIds") Collection<Long> userIds);
+
+    // (todo_id, user_id) 가 없을 때만 id 로 넣는다. 이미 있거나 일정/유저가 없으면 0 을 돌려준다.
+    // 동시에 들어온 같은 쌍은 uk_managers_todo_id_user_id 가 막는다.
+    @Modifying
+    @Query(value = "INSERT INTO managers (id, user_id, todo_id) " +
+            "SELECT :id, u.id, t.id FROM users u, todos t WHERE u.id = :userId AND t.id = :todoId " +
+            "AND NOT EXISTS (SELECT 1 FROM managers m WHERE m.todo_id = t.id AND m.user_id = u.id)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id, @Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    @Query("SELECT m.id FROM Manager m WHERE m.todo.id = :todoId AND m.user.id = :userId")
+    Optional<Long> findIdByTodoIdAndUserId(@Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId")
+    List<Long> findUserIdsByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT m.todo.id FROM Manager m WHERE m.id = :managerId")
+    Optional<Long> findTodoIdById(@Param("managerId") Long managerId);
+
+    // 권한 확인과 삭제를 한 문장으로 한다. 담당자가 그 일정 소속이고 요청자가 일정 작성자일 때만 지워진다
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId AND m.todo.id = :todoId " +
+            "AND EXISTS (SELECT 1 FROM Todo t WHERE t.id = :todoId AND t.user.id = :userId)")
+    int deleteByIdAndTodoOwner(@Param("managerId") Long managerId, @Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.todo.id IN :todoIds")
+    int deleteAllByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 담당자 멤버십 색인 적재용. 엔티티 없이 (todo_id, user_id) 만 흘려 읽는다
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.expert.domain.manager.dto.projection.ManagerPairRow(m.todo.id, m.user.id) FROM Manager m")
+    Stream<ManagerPairRow> streamAllPairs();
 }
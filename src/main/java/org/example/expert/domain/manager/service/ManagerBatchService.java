@@ -0,0 +1,197 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.id.TsidGenerator;
+import org.example.expert.domain.manager.dto.projection.ManagerPairRow;
+import org.example.expert.domain.manager.dto.request.ManagerAdminBatchSaveRequest;
+import org.example.expert.domain.manager.dto.request.ManagerBatchItemRequest;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBatchItemResult;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
+import org.example.expert.domain.manager.event.ManagersAssignedEvent;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.projection.TodoOwnerRow;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 담당자 일괄 등록. 일정/유저/기존 배정을 IN 쿼리로 한 번씩 확인하고, 새 배정만 JDBC 배치로 넣는다.
+ * 확인과 INSERT 사이에 다른 요청이 같은 쌍을 넣었으면 그 행은 0 건으로 끝나고 SKIPPED 로 돌려준다.
+ */
+@Service
+public class ManagerBatchService {
+
+    private static final int MAX_ITEMS = 10_000;
+    private static final String INSERT_SQL = "INSERT INTO managers (id, user_id, todo_id) " +
+            "SELECT ?, u.id, t.id FROM users u, todos t WHERE u.id = ? AND t.id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM managers m WHERE m.todo_id = t.id AND m.user_id = u.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ManagerRepository managerRepository;
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int jdbcBatchSize;
+
+    public ManagerBatchService(
+            JdbcTemplate jdbcTemplate,
+            ManagerRepository managerRepository,
+            TodoRepository todoRepository,
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${manager.batch.jdbc-batch-size:500}") int jdbcBatchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.managerRepository = managerRepository;
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    @Transactional
+    public ManagerBatchSaveResponse saveManagers(AuthUser authUser, long todoId, ManagerBatchSaveRequest request) {
+        validateSize(request.getManagerUserIds().size());
+        TodoOwnerRow owner = todoRepository.findOwnerById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (owner.getUserId() == null) {
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        List<ManagerBatchItemRequest> items = new ArrayList<>(request.getManagerUserIds().size());
+        for (Long managerUserId : request.getManagerUserIds()) {
+            items.add(new ManagerBatchItemRequest(todoId, managerUserId));
+        }
+        // 작성자 확인 뒤 보관되었을 수 있으므로 INSERT 가 끝날 때까지 일정을 잠근다. 이미 없으면 항목별로 거절된다
+        return insert(items, new HashSet<>(todoRepository.lockExistingIds(List.of(todoId))), authUser.getId());
+    }
+
+    @Transactional
+    public ManagerBatchSaveResponse saveManagersAcrossTodos(ManagerAdminBatchSaveRequest request) {
+        List<ManagerBatchItemRequest> items = request.getManagers();
+        validateSize(items.size());
+
+        Set<Long> todoIds = new HashSet<>();
+        for (ManagerBatchItemRequest item : items) {
+            if (item != null && item.getTodoId() != null) {
+                todoIds.add(item.getTodoId());
+            }
+        }
+        Set<Long> existingTodoIds = todoIds.isEmpty() ? Set.of() : new HashSet<>(todoRepository.lockExistingIds(todoIds));
+        return insert(items, existingTodoIds, null);
+    }
+
+    // ownerUserId 가 있으면 일정 작성자 본인 배정을 거절한다 (단건 등록과 같은 규칙)
+    private ManagerBatchSaveResponse insert(List<ManagerBatchItemRequest> items, Set<Long> existingTodoIds, Long ownerUserId) {
+        Set<Long> userIds = new HashSet<>();
+        for (ManagerBatchItemRequest item : items) {
+            if (item != null && item.getManagerUserId() != null) {
+                userIds.add(item.getManagerUserId());
+            }
+        }
+        Set<Long> existingUserIds = userIds.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingIds(userIds));
+
+        // 이미 배정된 (todo, user) 쌍. 요청 안의 중복도 여기에 더해 가며 거른다
+        Map<Long, Set<Long>> assigned = new HashMap<>();
+        if (!existingTodoIds.isEmpty() && !existingUserIds.isEmpty()) {
+            for (ManagerPairRow pair : managerRepository.findPairs(existingTodoIds, existingUserIds)) {
+                assigned.computeIfAbsent(pair.getTodoId(), id -> new HashSet<>()).add(pair.getUserId());
+            }
+        }
+
+        List<ManagerBatchItemResult> results = new ArrayList<>(items.size());
+        List<ManagerBatchItemRequest> rows = new ArrayList<>(items.size());
+        // rows 의 각 행이 results 의 몇 번째인지
+        List<Integer> rowPositions = new ArrayList<>(items.size());
+        int skipped = 0;
+        for (int i = 0; i < items.size(); i++) {
+            ManagerBatchItemRequest item = items.get(i);
+            Long todoId = item != null ? item.getTodoId() : null;
+            Long userId = item != null ? item.getManagerUserId() : null;
+
+            String rejection = validate(todoId, userId, existingTodoIds, existingUserIds, ownerUserId);
+            if (rejection != null) {
+                results.add(new ManagerBatchItemResult(i, todoId, userId, ManagerBatchItemResult.REJECTED, rejection));
+                continue;
+            }
+            if (!assigned.computeIfAbsent(todoId, id -> new HashSet<>()).add(userId)) {
+                results.add(new ManagerBatchItemResult(i, todoId, userId, ManagerBatchItemResult.SKIPPED, "이미 등록된 담당자입니다."));
+                skipped++;
+                continue;
+            }
+            rows.add(item);
+            rowPositions.add(results.size());
+            results.add(new ManagerBatchItemResult(i, todoId, userId, ManagerBatchItemResult.CREATED, null));
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, rows, jdbcBatchSize, (ps, row) -> {
+            ps.setLong(1, TsidGenerator.nextId());
+            ps.setLong(2, row.getManagerUserId());
+            ps.setLong(3, row.getTodoId());
+        });
+
+        List<ManagerPairRow> assignments = new ArrayList<>(rows.size());
+        Map<Long, Long> insertedPerTodo = new HashMap<>();
+        int next = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                ManagerBatchItemRequest item = rows.get(next);
+                int position = rowPositions.get(next++);
+                // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2) 를 돌려준다. 0 만 이미 있던 쌍이다
+                if (count == 0) {
+                    results.set(position, new ManagerBatchItemResult(position, item.getTodoId(), item.getManagerUserId(),
+                            ManagerBatchItemResult.SKIPPED, "이미 등록된 담당자입니다."));
+                    skipped++;
+                    continue;
+                }
+                assignments.add(new ManagerPairRow(item.getTodoId(), item.getManagerUserId()));
+                insertedPerTodo.merge(item.getTodoId(), 1L, Long::sum);
+            }
+        }
+        insertedPerTodo.forEach(todoRepository::addManagerCount);
+        if (!assignments.isEmpty()) {
+            eventPublisher.publishEvent(new ManagersAssignedEvent(assignments));
+        }
+
+        return new ManagerBatchSaveResponse(
+                items.size(),
+                assignments.size(),
+                skipped,
+                items.size() - assignments.size() - skipped,
+                results
+        );
+    }
+
+    private String validate(Long todoId, Long userId, Set<Long> todoIds, Set<Long> userIds, Long ownerUserId) {
+        if (todoId == null || !todoIds.contains(todoId)) {
+            return "Todo not found";
+        }
+        if (ownerUserId != null && ObjectUtils.nullSafeEquals(ownerUserId, userId)) {
+            return "일정 작성자는 본인을 담당자로 등록할 수 없습니다.";
+        }
+        if (userId == null || !userIds.contains(userId)) {
+            return "등록하려고 하는 담당자 유저가 존재하지 않습니다.";
+        }
+        return null;
+    }
+
+    private void validateSize(int size) {
+        if (size > MAX_ITEMS) {
+            throw new InvalidRequestException("한 번에 등록할 수 있는 담당자는 " + MAX_ITEMS + "명 이하입니다.");
+        }
+    }
+}
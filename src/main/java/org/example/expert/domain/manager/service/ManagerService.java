@@ -1,46 +1,75 @@
 package org.example.expert.domain.manager.service;
 
 import io.jsonwebtoken.Claims;
-import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtFilter;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.id.TsidGenerator;
+import org.example.expert.domain.manager.dto.projection.ManagerPairRow;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.event.ManagersAssignedEvent;
+import org.example.expert.domain.manager.event.ManagersRemovedEvent;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.projection.TodoOwnerRow;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ManagerService {
 
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ManagerService(
+            ManagerRepository managerRepository,
+            UserRepository userRepository,
+            TodoRepository todoRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.managerRepository = managerRepository;
+        this.userRepository = userRepository;
+        this.todoRepository = todoRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
-
-    @Transactional
+    /**
+     * 재시도해도 배정이 하나만 남도록 없을 때만 넣고, 이미 있으면 기존 배정을 돌려준다.
+     * 같은 요청 두 개가 동시에 들어오면 둘 다 NOT EXISTS 를 통과하고 늦은 쪽이 유니크 제약에 걸린다.
+     * 그 트랜잭션은 되돌려지고 먼저 커밋된 배정이 보이지 않을 수 있으므로, 새 트랜잭션에서 기존 배정을 읽는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
+        // 일정 전체를 읽지 않고 (id, 작성자 id) 만 확인한다
+        TodoOwnerRow owner = todoRepository.findOwnerById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        if (todo.getUser() == null) {
+        if (owner.getUserId() == null) {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
         }
 
@@ -51,15 +80,36 @@ public class ManagerService {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
-        Manager savedManagerUser = managerRepository.save(newManagerUser);
+        Long managerId;
+        try {
+            managerId = transactionTemplate.execute(status -> assignIfAbsent(todoId, managerUser.getId()));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 배정이 먼저 커밋됐다
+            managerId = findManagerId(todoId, managerUser.getId());
+        }
 
         return new ManagerSaveResponse(
-                savedManagerUser.getId(),
+                managerId,
                 new UserResponse(managerUser.getId(), managerUser.getEmail())
         );
     }
 
+    private Long assignIfAbsent(long todoId, long managerUserId) {
+        Long managerId = TsidGenerator.nextId();
+        int inserted = managerRepository.insertIfAbsent(managerId, todoId, managerUserId);
+        if (inserted == 0) {
+            return findManagerId(todoId, managerUserId);
+        }
+        todoRepository.addManagerCount(todoId, 1);
+        eventPublisher.publishEvent(new ManagersAssignedEvent(List.of(new ManagerPairRow(todoId, managerUserId))));
+        return managerId;
+    }
+
+    private Long findManagerId(long todoId, long managerUserId) {
+        return managerRepository.findIdByTodoIdAndUserId(todoId, managerUserId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
+
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -79,24 +129,35 @@ public class ManagerService {
 
     @Transactional
     public void deleteManager(long userId, long todoId, long managerId) {
+        // 조건부 DELETE 한 문장으로 권한 확인과 삭제를 끝낸다. 지워진 행이 없을 때만 원인을 조회한다
+        int deleted = managerRepository.deleteByIdAndTodoOwner(managerId, todoId, userId);
+        if (deleted == 0) {
+            throw new InvalidRequestException(diagnoseDeleteFailure(userId, todoId, managerId));
+        }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
-
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        todoRepository.addManagerCount(todoId, -1);
+        eventPublisher.publishEvent(new ManagersRemovedEvent(List.of(todoId)));
+    }
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+    // 단계별로 조회하던 때와 같은 순서, 같은 메시지로 실패 원인을 찾는다
+    private String diagnoseDeleteFailure(long userId, long todoId, long managerId) {
+        if (!userRepository.existsById(userId)) {
+            return "User not found";
         }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
-
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
-            throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
+        TodoOwnerRow owner = todoRepository.findOwnerById(todoId).orElse(null);
+        if (owner == null) {
+            return "Todo not found";
+        }
+        if (owner.getUserId() == null || !ObjectUtils.nullSafeEquals(userId, owner.getUserId())) {
+            return "해당 일정을 만든 유저가 유효하지 않습니다.";
         }
 
-        managerRepository.delete(manager);
+        Long managerTodoId = managerRepository.findTodoIdById(managerId).orElse(null);
+        if (managerTodoId != null && !ObjectUtils.nullSafeEquals(todoId, managerTodoId)) {
+            return "해당 일정에 등록된 담당자가 아닙니다.";
+        }
+        // 없거나, 확인하는 사이 지워졌다
+        return "Manager not found";
     }
 }
@@ -0,0 +1,18 @@
+package org.example.expert.domain.outbox.dto.projection;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class OutboxBacklogRow {
+
+    private final long pending;
+    // 남은 메시지가 없으면 null
+    private final LocalDateTime oldestCreatedAt;
+
+    public OutboxBacklogRow(long pending, LocalDateTime oldestCreatedAt) {
+        this.pending = pending;
+        this.oldestCreatedAt = oldestCreatedAt;
+    }
+}
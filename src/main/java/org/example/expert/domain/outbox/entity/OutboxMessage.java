@@ -0,0 +1,78 @@
+package org.example.expert.domain.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.id.TsidId;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커밋과 함께 기록되는 도메인 이벤트. OutboxRelay 가 소비자에게 전달한 뒤 지운다.
+ * 정해진 횟수만큼 실패하면 parkedAt 을 채워 더는 전달하지 않고 남겨 둔다.
+ * id 는 기록 시각 순으로 증가하고, 같은 일정(aggregate) 안에서는 id 순서로 전달한다. 커밋 순서와는 다를 수 있다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "outbox_messages", indexes = {
+        // 같은 일정에 먼저 쌓인 메시지가 있는지 확인용
+        @Index(name = "idx_outbox_messages_aggregate_id_id", columnList = "aggregate_id, id")
+})
+public class OutboxMessage {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id @TsidId
+    private Long id;
+
+    // 이벤트가 속한 일정 id. 같은 일정의 이벤트는 순서대로 전달한다
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    // 재시도를 포기한 시각. null 이 아니면 relay 가 가져가지 않고, 같은 일정의 뒤 메시지도 막지 않는다
+    private LocalDateTime parkedAt;
+
+    public OutboxMessage(Long aggregateId, String eventType, String payload, LocalDateTime createdAt) {
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    public void failed(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void park(String error, LocalDateTime parkedAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.parkedAt = parkedAt;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
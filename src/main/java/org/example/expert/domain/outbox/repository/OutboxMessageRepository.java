@@ -0,0 +1,47 @@
+package org.example.expert.domain.outbox.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.outbox.dto.projection.OutboxBacklogRow;
+import org.example.expert.domain.outbox.entity.OutboxMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_LOCK_TIMEOUT;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // FOR UPDATE SKIP LOCKED: 다른 relay 가 잡고 있는 메시지는 건너뛰고 나머지를 가져간다 (lock timeout -2). 포기한 메시지는 제외
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT o FROM OutboxMessage o WHERE o.parkedAt IS NULL AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<OutboxMessage> claimBatch(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 가져온 메시지보다 먼저 쌓였는데 가져오지 못한 메시지(다른 relay 가 잡았거나 재시도 대기 중)가 있는 일정. 포기한 메시지는 막지 않는다
+    @Query("SELECT DISTINCT o.aggregateId FROM OutboxMessage o " +
+            "WHERE o.aggregateId IN :aggregateIds AND o.id < :beforeId AND o.id NOT IN :claimedIds AND o.parkedAt IS NULL")
+    List<Long> findAggregatesWithEarlierMessages(
+            @Param("aggregateIds") Collection<Long> aggregateIds,
+            @Param("beforeId") Long beforeId,
+            @Param("claimedIds") Collection<Long> claimedIds
+    );
+
+    @Modifying
+    @Query("DELETE FROM OutboxMessage o WHERE o.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new org.example.expert.domain.outbox.dto.projection.OutboxBacklogRow(COUNT(o), MIN(o.createdAt)) " +
+            "FROM OutboxMessage o WHERE o.parkedAt IS NULL")
+    OutboxBacklogRow findBacklog();
+
+    long countByParkedAtIsNotNull();
+}
@@ -0,0 +1,14 @@
+package org.example.expert.domain.outbox.service;
+
+/**
+ * OutboxRelay 가 커밋된 이벤트를 넘겨주는 프로세스 내 소비자.
+ * <ul>
+ *     <li>같은 일정의 이벤트는 기록된 순서대로 온다. 다른 일정끼리는 순서가 없다.</li>
+ *     <li>최소 한 번 전달이다. 소비자 하나라도 실패하면 그 이벤트는 모든 소비자에게 다시 온다.</li>
+ * </ul>
+ * 예외를 던지면 전달 실패로 보고 재시도한다. 모르는 이벤트는 무시하면 된다.
+ */
+public interface OutboxConsumer {
+
+    void consume(Object event);
+}
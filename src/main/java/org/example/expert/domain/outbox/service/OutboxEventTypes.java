@@ -0,0 +1,54 @@
+package org.example.expert.domain.outbox.service;
+
+import org.example.expert.domain.archive.event.TodosArchivedEvent;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.event.CommentUpdatedEvent;
+import org.example.expert.domain.manager.event.ManagersAssignedEvent;
+import org.example.expert.domain.manager.event.ManagersRemovedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.event.TodoUpdatedEvent;
+import org.example.expert.domain.todo.event.TodosDeletedEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * outbox_messages.event_type 에 저장하는 이름. 클래스 이름을 바꿔도 쌓여 있는 메시지를 읽을 수 있게 고정된 이름을 쓴다.
+ */
+final class OutboxEventTypes {
+
+    private static final Map<String, Class<?>> TYPES = Map.of(
+            "todo.saved", TodoSavedEvent.class,
+            "todo.updated", TodoUpdatedEvent.class,
+            "todo.deleted", TodosDeletedEvent.class,
+            "todo.archived", TodosArchivedEvent.class,
+            "comment.saved", CommentSavedEvent.class,
+            "comment.updated", CommentUpdatedEvent.class,
+            "manager.assigned", ManagersAssignedEvent.class,
+            "manager.removed", ManagersRemovedEvent.class
+    );
+    private static final Map<Class<?>, String> NAMES = new HashMap<>();
+
+    static {
+        TYPES.forEach((name, type) -> NAMES.put(type, name));
+    }
+
+    private OutboxEventTypes() {
+    }
+
+    static String nameOf(Class<?> type) {
+        String name = NAMES.get(type);
+        if (name == null) {
+            throw new IllegalArgumentException("Unknown outbox event type: " + type.getName());
+        }
+        return name;
+    }
+
+    static Class<?> typeOf(String name) {
+        Class<?> type = TYPES.get(name);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown outbox event type: " + name);
+        }
+        return type;
+    }
+}
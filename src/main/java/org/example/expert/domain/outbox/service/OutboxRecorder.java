@@ -0,0 +1,105 @@
+package org.example.expert.domain.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.archive.event.TodosArchivedEvent;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.event.CommentUpdatedEvent;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.dto.projection.ManagerPairRow;
+import org.example.expert.domain.manager.event.ManagersAssignedEvent;
+import org.example.expert.domain.manager.event.ManagersRemovedEvent;
+import org.example.expert.domain.outbox.entity.OutboxMessage;
+import org.example.expert.domain.outbox.repository.OutboxMessageRepository;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.event.TodoUpdatedEvent;
+import org.example.expert.domain.todo.event.TodosDeletedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서비스가 발행한 도메인 이벤트를 커밋 직전(BEFORE_COMMIT)에 outbox_messages 에 넣는다.
+ * 같은 트랜잭션에서 쓰므로 변경과 이벤트는 함께 커밋되거나 함께 롤백된다. 기록에 실패하면 변경도 롤백된다.
+ * <p>
+ * 일정 여러 개에 걸친 이벤트는 일정마다 나누어 기록해 일정 단위로 순서를 지킬 수 있게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRecorder {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTodoSaved(TodoSavedEvent event) {
+        append(event.getTodoId(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTodoUpdated(TodoUpdatedEvent event) {
+        append(event.getTodoId(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTodosDeleted(TodosDeletedEvent event) {
+        for (Long todoId : event.getTodoIds()) {
+            append(todoId, new TodosDeletedEvent(List.of(todoId)));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTodosArchived(TodosArchivedEvent event) {
+        for (Long todoId : event.getTodoIds()) {
+            append(todoId, new TodosArchivedEvent(List.of(todoId)));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCommentSaved(CommentSavedEvent event) {
+        append(event.getTodoId(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCommentUpdated(CommentUpdatedEvent event) {
+        append(event.getTodoId(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onManagersAssigned(ManagersAssignedEvent event) {
+        Map<Long, List<ManagerPairRow>> byTodo = new LinkedHashMap<>();
+        for (ManagerPairRow pair : event.getAssignments()) {
+            byTodo.computeIfAbsent(pair.getTodoId(), todoId -> new ArrayList<>()).add(pair);
+        }
+        byTodo.forEach((todoId, pairs) -> append(todoId, new ManagersAssignedEvent(pairs)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onManagersRemoved(ManagersRemovedEvent event) {
+        for (Long todoId : event.getTodoIds()) {
+            append(todoId, new ManagersRemovedEvent(List.of(todoId)));
+        }
+    }
+
+    private void append(Long todoId, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new ServerException("이벤트를 outbox 에 기록하지 못했습니다.");
+        }
+        outboxMessageRepository.save(new OutboxMessage(
+                todoId,
+                OutboxEventTypes.nameOf(event.getClass()),
+                payload,
+                LocalDateTime.now()
+        ));
+    }
+}
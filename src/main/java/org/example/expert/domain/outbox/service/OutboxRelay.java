@@ -0,0 +1,174 @@
+package org.example.expert.domain.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.outbox.dto.projection.OutboxBacklogRow;
+import org.example.expert.domain.outbox.entity.OutboxMessage;
+import org.example.expert.domain.outbox.repository.OutboxMessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox_messages 를 주기적으로 읽어 {@link OutboxConsumer} 들에게 전달한다.
+ * <ul>
+ *     <li>batch-size 개씩 FOR UPDATE SKIP LOCKED 로 가져오므로 relay 가 여러 개여도 같은 메시지를 동시에 처리하지 않는다.
+ *     메시지는 한 인스턴스에만 전달되므로, 인스턴스마다 메모리에 두는 소비자(SearchIndexManager)가 있는 지금은 단일 인스턴스 배포를 전제로 한다.</li>
+ *     <li>전달한 메시지는 같은 트랜잭션에서 지운다. 전달 후 커밋 전에 죽으면 다시 전달된다(최소 한 번).</li>
+ *     <li>일정마다 id 순서로 전달한다. 앞선 메시지를 다른 relay 가 잡고 있거나 재시도 대기 중이면 그 일정의 뒤 메시지는 다음으로 미룬다.
+ *     id 는 커밋이 아니라 기록할 때 정해지므로, 같은 일정을 동시에 쓴 두 트랜잭션은 커밋 순서와 id 순서가 다를 수 있다.
+ *     늦게 커밋된 앞 id 메시지는 뒤 메시지가 이미 전달된 뒤에 보일 수 있으므로 순서는 최선 노력이고, 소비자는 순서가 뒤바뀌어도 재구성으로 정리될 수 있어야 한다.</li>
+ *     <li>실패한 메시지는 지수 백오프(최대 max-backoff)로 재시도하고, max-attempts 번 실패하면 지우지 않고 parkedAt 을 채워 따로 둔다.
+ *     계속 실패하는 메시지 하나가 그 일정의 뒤 메시지를 영원히 막지 않게 하기 위해서다. 원인을 고친 뒤 parkedAt 을 비우면 다시 전달된다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(1);
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final List<OutboxConsumer> consumers;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+
+    private final Timer lag;
+    private final Counter failures;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+
+    public OutboxRelay(
+            OutboxMessageRepository outboxMessageRepository,
+            List<OutboxConsumer> consumers,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.max-backoff:5m}") Duration maxBackoff,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts
+    ) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.consumers = consumers;
+        // 이벤트 클래스는 기본 생성자 없이 생성자로만 값을 받는다
+        this.objectMapper = objectMapper.copy().setConstructorDetector(ConstructorDetector.USE_PROPERTIES_BASED);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+
+        this.lag = Timer.builder("outbox.relay.lag")
+                .description("이벤트가 기록된 뒤 소비자에게 전달되기까지 걸린 시간")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+                .description("전달에 실패한 메시지 수 (재시도로 미뤘거나 포기한 것)")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("전달을 기다리는 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.parked", parked, AtomicLong::get)
+                .description("재시도를 포기하고 남겨 둔 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.oldest.age", oldestAgeMillis, AtomicLong::get)
+                .description("가장 오래 기다린 메시지의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:200ms}")
+    public void relay() {
+        // 꽉 찬 batch 를 전달했으면 더 남아 있을 수 있으므로 바로 이어서 가져온다
+        while (!Thread.currentThread().isInterrupted()) {
+            Integer delivered = transactionTemplate.execute(status -> relayBatch());
+            if (delivered == null || delivered < batchSize) {
+                break;
+            }
+        }
+        OutboxBacklogRow backlog = transactionTemplate.execute(status -> outboxMessageRepository.findBacklog());
+        if (backlog != null) {
+            pending.set(backlog.getPending());
+            oldestAgeMillis.set(backlog.getOldestCreatedAt() != null
+                    ? Math.max(0, Duration.between(backlog.getOldestCreatedAt(), LocalDateTime.now()).toMillis())
+                    : 0);
+        }
+        Long parkedCount = transactionTemplate.execute(status -> outboxMessageRepository.countByParkedAtIsNotNull());
+        if (parkedCount != null) {
+            parked.set(parkedCount);
+        }
+    }
+
+    private int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> batch = outboxMessageRepository.claimBatch(now, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> aggregateIds = new LinkedHashSet<>();
+        List<Long> claimedIds = new ArrayList<>();
+        for (OutboxMessage message : batch) {
+            aggregateIds.add(message.getAggregateId());
+            claimedIds.add(message.getId());
+        }
+        Set<Long> blocked = new HashSet<>(outboxMessageRepository.findAggregatesWithEarlierMessages(
+                aggregateIds, claimedIds.get(claimedIds.size() - 1), claimedIds));
+
+        List<Long> delivered = new ArrayList<>();
+        for (OutboxMessage message : batch) {
+            if (blocked.contains(message.getAggregateId())) {
+                continue;
+            }
+            try {
+                Object event = objectMapper.readValue(message.getPayload(), OutboxEventTypes.typeOf(message.getEventType()));
+                for (OutboxConsumer consumer : consumers) {
+                    consumer.consume(event);
+                }
+            } catch (Exception e) {
+                // 같은 일정의 뒤 메시지가 앞지르지 않도록 이 batch 에서는 더 보내지 않는다
+                blocked.add(message.getAggregateId());
+                failures.increment();
+                if (message.getAttempts() + 1 >= maxAttempts) {
+                    message.park(e.toString(), now);
+                    log.error("Outbox message {} ({}) parked after {} attempts", message.getId(), message.getEventType(), message.getAttempts(), e);
+                } else {
+                    message.failed(e.toString(), now.plus(backoff(message.getAttempts() + 1)));
+                    log.warn("Outbox message {} ({}) failed, attempt {}", message.getId(), message.getEventType(), message.getAttempts(), e);
+                }
+                continue;
+            }
+            delivered.add(message.getId());
+            lag.record(Duration.between(message.getCreatedAt(), LocalDateTime.now()));
+        }
+
+        if (!delivered.isEmpty()) {
+            outboxMessageRepository.deleteAllByIdIn(delivered);
+        }
+        return delivered.size();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
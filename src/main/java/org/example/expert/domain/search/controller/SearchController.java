@@ -0,0 +1,24 @@
+package org.example.expert.domain.search.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.search.dto.response.SearchResponse;
+import org.example.expert.domain.search.service.SearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchResponse> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(searchService.search(q, size));
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.search.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class SearchHitResponse {
+
+    private final Long todoId;
+    private final String title;
+    private final long commentCount;
+    private final double score;
+
+    public SearchHitResponse(Long todoId, String title, long commentCount, double score) {
+        this.todoId = todoId;
+        this.title = title;
+        this.commentCount = commentCount;
+        this.score = score;
+    }
+}
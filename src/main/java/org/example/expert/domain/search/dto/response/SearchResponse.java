@@ -0,0 +1,18 @@
+package org.example.expert.domain.search.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SearchResponse {
+
+    private final List<SearchHitResponse> results;
+    // 시작 직후 색인을 만드는 중이면 false. 이때 결과는 일부만 반영되어 있을 수 있다
+    private final boolean indexReady;
+
+    public SearchResponse(List<SearchHitResponse> results, boolean indexReady) {
+        this.results = results;
+        this.indexReady = indexReady;
+    }
+}
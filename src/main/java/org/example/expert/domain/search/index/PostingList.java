@@ -0,0 +1,237 @@
+package org.example.expert.domain.search.index;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 term 의 (todo id, 가중 빈도) 목록.
+ * <p>
+ * 본체는 todo id 오름차순으로 (이전 id 와의 차이, 빈도) 를 varint 로 이어 붙인 byte 배열이고,
+ * {@value #SKIP_INTERVAL} 개마다 skip 항목을 두어 임의 조회 시 전체를 풀지 않는다.
+ * 새 todo 는 항상 가장 큰 id 라 본체 끝에 바로 붙이고, 기존 todo 의 변경은 pending 에 모았다가
+ * 일정 크기를 넘으면 본체와 합쳐 다시 인코딩한다.
+ * <p>
+ * 스레드 안전하지 않다. {@link SearchIndex} 의 락 안에서만 사용한다.
+ */
+final class PostingList {
+
+    private static final int SKIP_INTERVAL = 128;
+    private static final int MIN_PENDING_BEFORE_COMPACT = 64;
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int baseCount;
+    private long baseLastDoc;
+
+    // skip i 는 (i * SKIP_INTERVAL) 번째 항목 직전의 todo id 와 그 항목의 byte 위치
+    private long[] skipPrevDocs = new long[1];
+    private int[] skipOffsets = new int[1];
+    private int skipCount;
+
+    // 본체에 있는 todo 의 변경분. 값 0 은 삭제
+    private final TreeMap<Long, Integer> pending = new TreeMap<>();
+
+    private int docFrequency;
+
+    int getDocFrequency() {
+        return docFrequency;
+    }
+
+    boolean isEmpty() {
+        return docFrequency == 0;
+    }
+
+    /**
+     * todo 의 빈도를 delta 만큼 바꾼다. 0 아래로는 내려가지 않는다.
+     */
+    void add(long docId, int delta) {
+        int current = frequency(docId);
+        int updated = Math.max(0, current + delta);
+        if (updated == current) {
+            return;
+        }
+        if (current == 0) {
+            docFrequency++;
+        } else if (updated == 0) {
+            docFrequency--;
+        }
+
+        if (docId > baseLastDoc && (pending.isEmpty() || docId > pending.lastKey())) {
+            // 지금까지의 어떤 항목보다 큰 id 면 본체 끝에 붙인다
+            append(docId, updated);
+            return;
+        }
+        pending.put(docId, updated);
+        if (pending.size() > Math.max(MIN_PENDING_BEFORE_COMPACT, baseCount / 8)) {
+            compact();
+        }
+    }
+
+    int frequency(long docId) {
+        Integer pendingFrequency = pending.get(docId);
+        if (pendingFrequency != null) {
+            return pendingFrequency;
+        }
+        if (docId > baseLastDoc || baseCount == 0) {
+            return 0;
+        }
+
+        // docId 보다 작은 id 로 시작하는 마지막 skip 에서부터 푼다
+        int skip = Arrays.binarySearch(skipPrevDocs, 0, skipCount, docId);
+        skip = skip >= 0 ? skip - 1 : -skip - 2;
+        if (skip < 0) {
+            skip = 0;
+        }
+        int[] position = {skipOffsets[skip]};
+        long doc = skipPrevDocs[skip];
+        int remaining = Math.min(SKIP_INTERVAL, baseCount - skip * SKIP_INTERVAL);
+        for (int i = 0; i < remaining; i++) {
+            doc += readVarLong(position);
+            int frequency = (int) readVarLong(position);
+            if (doc == docId) {
+                return frequency;
+            }
+            if (doc > docId) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 빈도가 0 보다 큰 항목을 todo id 오름차순으로 넘긴다.
+     */
+    void forEach(PostingConsumer consumer) {
+        int[] position = {0};
+        long doc = 0;
+        int read = 0;
+        Iterator<Map.Entry<Long, Integer>> pendingIterator = pending.entrySet().iterator();
+        Map.Entry<Long, Integer> next = pendingIterator.hasNext() ? pendingIterator.next() : null;
+
+        while (read < baseCount) {
+            doc += readVarLong(position);
+            int frequency = (int) readVarLong(position);
+            read++;
+            while (next != null && next.getKey() < doc) {
+                emit(consumer, next.getKey(), next.getValue());
+                next = pendingIterator.hasNext() ? pendingIterator.next() : null;
+            }
+            if (next != null && next.getKey() == doc) {
+                frequency = next.getValue();
+                next = pendingIterator.hasNext() ? pendingIterator.next() : null;
+            }
+            emit(consumer, doc, frequency);
+        }
+        while (next != null) {
+            emit(consumer, next.getKey(), next.getValue());
+            next = pendingIterator.hasNext() ? pendingIterator.next() : null;
+        }
+    }
+
+    void compact() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        PostingList merged = new PostingList();
+        forEach(merged::append);
+        this.data = merged.data;
+        this.length = merged.length;
+        this.baseCount = merged.baseCount;
+        this.baseLastDoc = merged.baseLastDoc;
+        this.skipPrevDocs = merged.skipPrevDocs;
+        this.skipOffsets = merged.skipOffsets;
+        this.skipCount = merged.skipCount;
+        this.docFrequency = merged.baseCount;
+        this.pending.clear();
+    }
+
+    // 호출 전에 compact() 되어 있어야 한다
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(baseCount);
+        out.writeInt(length);
+        out.write(data, 0, length);
+    }
+
+    static PostingList readFrom(DataInput in) throws IOException {
+        int count = in.readInt();
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+
+        // skip 목록과 마지막 id 는 파일에 두지 않고 다시 계산한다
+        PostingList list = new PostingList();
+        int[] position = {0};
+        long doc = 0;
+        for (int i = 0; i < count; i++) {
+            doc += readVarLong(bytes, position);
+            list.append(doc, (int) readVarLong(bytes, position));
+        }
+        list.docFrequency = list.baseCount;
+        return list;
+    }
+
+    long estimatedBytes() {
+        return data.length + (long) skipPrevDocs.length * 12 + pending.size() * 64L;
+    }
+
+    private void append(long docId, int frequency) {
+        if (frequency == 0) {
+            return;
+        }
+        if (baseCount % SKIP_INTERVAL == 0) {
+            if (skipCount == skipPrevDocs.length) {
+                skipPrevDocs = Arrays.copyOf(skipPrevDocs, skipCount * 2);
+                skipOffsets = Arrays.copyOf(skipOffsets, skipCount * 2);
+            }
+            skipPrevDocs[skipCount] = baseLastDoc;
+            skipOffsets[skipCount] = length;
+            skipCount++;
+        }
+        writeVarLong(docId - baseLastDoc);
+        writeVarLong(frequency);
+        baseLastDoc = docId;
+        baseCount++;
+    }
+
+    private static void emit(PostingConsumer consumer, long docId, int frequency) {
+        if (frequency > 0) {
+            consumer.accept(docId, frequency);
+        }
+    }
+
+    private void writeVarLong(long value) {
+        if (length + 10 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+        }
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private long readVarLong(int[] position) {
+        return readVarLong(data, position);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(long docId, int frequency);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.search.index;
+
+import lombok.Getter;
+
+@Getter
+public class SearchHit {
+
+    private final long todoId;
+    private final double score;
+
+    public SearchHit(long todoId, double score) {
+        this.todoId = todoId;
+        this.score = score;
+    }
+}
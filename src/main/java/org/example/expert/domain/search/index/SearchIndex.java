@@ -0,0 +1,235 @@
+package org.example.expert.domain.search.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * todo 단위 역색인. term → {@link PostingList}.
+ * 제목은 {@value #TITLE_WEIGHT} 배, 내용과 댓글은 1 배 가중치로 빈도를 더하고 TF-IDF 로 순위를 매긴다.
+ * <p>
+ * maxTodoId, maxCommentId 는 이 색인에 반영된 가장 큰 id 로, 스냅샷에서 다시 시작할 때 이어서 읽을 위치다.
+ */
+public class SearchIndex {
+
+    public static final int TITLE_WEIGHT = 3;
+    public static final int CONTENTS_WEIGHT = 1;
+    public static final int COMMENT_WEIGHT = 1;
+
+    private static final int MAGIC = 0x53494458; // "SIDX"
+    private static final int VERSION = 1;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long documentCount;
+    private long maxTodoId;
+    private long maxCommentId;
+
+    public static Map<String, Integer> todoTerms(String title, String contents) {
+        Map<String, Integer> terms = new HashMap<>();
+        Tokenizer.addTerms(title, TITLE_WEIGHT, terms);
+        Tokenizer.addTerms(contents, CONTENTS_WEIGHT, terms);
+        return terms;
+    }
+
+    public static Map<String, Integer> commentTerms(String contents) {
+        Map<String, Integer> terms = new HashMap<>();
+        Tokenizer.addTerms(contents, COMMENT_WEIGHT, terms);
+        return terms;
+    }
+
+    /**
+     * 새 todo 를 추가한다. 댓글 빈도까지 합친 값을 한 번에 넣어도 된다.
+     */
+    public void addTodo(long todoId, Map<String, Integer> termFrequencies) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(todoId, termFrequencies);
+            documentCount++;
+            maxTodoId = Math.max(maxTodoId, todoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addComment(long todoId, long commentId, Map<String, Integer> termFrequencies) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(todoId, termFrequencies);
+            maxCommentId = Math.max(maxCommentId, commentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기존 todo 의 term 빈도를 delta 만큼 바꾼다. 제목/내용 수정 시 이전 term 은 음수로 넘긴다.
+     */
+    public void apply(long todoId, Map<String, Integer> deltas) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(todoId, deltas);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void advanceCommentWatermark(long commentId) {
+        lock.writeLock().lock();
+        try {
+            maxCommentId = Math.max(maxCommentId, commentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SearchHit> search(List<String> terms, int limit) {
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null || list.isEmpty()) {
+                    continue;
+                }
+                double idf = Math.log(1.0 + (double) Math.max(documentCount, list.getDocFrequency()) / list.getDocFrequency());
+                list.forEach((docId, frequency) -> scores.merge(docId, (1.0 + Math.log(frequency)) * idf, Double::sum));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 점수 상위 limit 개만 남긴다
+        Comparator<SearchHit> order = Comparator.comparingDouble(SearchHit::getScore)
+                .thenComparingLong(SearchHit::getTodoId);
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(order);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(new SearchHit(entry.getKey(), entry.getValue()));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(order.reversed());
+        return hits;
+    }
+
+    public long getMaxTodoId() {
+        lock.readLock().lock();
+        try {
+            return maxTodoId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getMaxCommentId() {
+        lock.readLock().lock();
+        try {
+            return maxCommentId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                bytes += 48L + entry.getKey().length() * 2L + entry.getValue().estimatedBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체하므로 쓰는 도중 죽어도 이전 스냅샷이 남는다.
+     */
+    public void writeTo(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+
+        // pending 을 본체로 합친 뒤 읽기 락으로 내려서 쓰는 동안 검색은 막지 않는다
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(PostingList::compact);
+            lock.readLock().lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(documentCount);
+            out.writeLong(maxTodoId);
+            out.writeLong(maxCommentId);
+            out.writeInt(postings.size());
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            lock.readLock().unlock();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static SearchIndex readFrom(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unsupported search index snapshot: " + file);
+            }
+            SearchIndex index = new SearchIndex();
+            index.documentCount = in.readLong();
+            index.maxTodoId = in.readLong();
+            index.maxCommentId = in.readLong();
+            int termCount = in.readInt();
+            for (int i = 0; i < termCount; i++) {
+                String term = in.readUTF();
+                index.postings.put(term, PostingList.readFrom(in));
+            }
+            return index;
+        }
+    }
+
+    private void applyLocked(long todoId, Map<String, Integer> deltas) {
+        for (Map.Entry<String, Integer> entry : deltas.entrySet()) {
+            if (entry.getValue() == 0) {
+                continue;
+            }
+            PostingList list = postings.computeIfAbsent(entry.getKey(), term -> new PostingList());
+            list.add(todoId, entry.getValue());
+            if (list.isEmpty()) {
+                postings.remove(entry.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.expert.domain.search.index;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 문자/숫자 연속 구간을 소문자 토큰으로 자른다. 한글 토큰은 조사가 붙어도 찾을 수 있도록 2-gram 으로 나눈다.
+ * 색인과 질의에 같은 규칙을 써야 한다.
+ */
+public final class Tokenizer {
+
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private Tokenizer() {
+    }
+
+    public static void addTerms(String text, int weight, Map<String, Integer> termFrequencies) {
+        if (text == null) {
+            return;
+        }
+        forEachTerm(text, term -> termFrequencies.merge(term, weight, Integer::sum));
+    }
+
+    public static List<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query != null) {
+            forEachTerm(query, terms::add);
+        }
+        return List.copyOf(terms);
+    }
+
+    private static void forEachTerm(String text, Consumer<String> sink) {
+        StringBuilder token = new StringBuilder();
+        boolean hangul = false;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (token.length() < MAX_TOKEN_LENGTH) {
+                    token.appendCodePoint(Character.toLowerCase(codePoint));
+                }
+                hangul |= Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+            } else {
+                flush(token, hangul, sink);
+                hangul = false;
+            }
+        }
+        flush(token, hangul, sink);
+    }
+
+    private static void flush(StringBuilder token, boolean hangul, Consumer<String> sink) {
+        int length = token.length();
+        if (length == 0) {
+            return;
+        }
+        if (hangul && length > 2) {
+            for (int i = 0; i + 2 <= length; i++) {
+                sink.accept(token.substring(i, i + 2));
+            }
+        } else if (hangul || length > 1) {
+            // 한 글자 영문/숫자 토큰은 버린다
+            sink.accept(token.toString());
+        }
+        token.setLength(0);
+    }
+}
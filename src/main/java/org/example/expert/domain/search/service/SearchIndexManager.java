@@ -0,0 +1,251 @@
+package org.example.expert.domain.search.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.projection.CommentIndexRow;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.event.CommentUpdatedEvent;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.outbox.service.OutboxConsumer;
+import org.example.expert.domain.search.index.SearchHit;
+import org.example.expert.domain.search.index.SearchIndex;
+import org.example.expert.domain.todo.dto.projection.TodoIndexRow;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.event.TodoUpdatedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 검색 색인의 생명주기를 관리한다.
+ * <ul>
+ *     <li>시작 시 스냅샷을 읽고, 스냅샷 이후 추가된 todo/댓글만 DB 에서 이어서 읽는다. 스냅샷이 없으면 전체를 읽는다.</li>
+ *     <li>outbox 로 전달된 todo 저장/수정, 댓글 저장/수정 이벤트로 색인을 갱신한다. 같은 이벤트가 다시 올 수 있으며, 그 오차도 재구성에서 정리된다.</li>
+ *     <li>매일 새 색인을 만들어 교체한다. 수정/삭제로 남은 오차는 여기서 정리된다.</li>
+ * </ul>
+ * 색인을 만드는 동안 들어온 이벤트는 모아 두었다가 새 색인의 watermark 이후 것만 다시 적용한다.
+ */
+@Slf4j
+@Component
+public class SearchIndexManager implements OutboxConsumer {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path snapshotPath;
+    private final int chunkSize;
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object buildLock = new Object();
+    private volatile SearchIndex index = new SearchIndex();
+    private volatile boolean ready;
+    // 색인을 만드는 중이면 null 이 아니다 (buildLock)
+    private List<Object> missedDuringBuild;
+
+    public SearchIndexManager(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${search.snapshot-path:search-index/index.snap}") Path snapshotPath,
+            @Value("${search.build-chunk-size:1000}") int chunkSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.snapshotPath = snapshotPath;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        builder.execute(() -> {
+            SearchIndex loaded = null;
+            if (Files.exists(snapshotPath)) {
+                try {
+                    loaded = SearchIndex.readFrom(snapshotPath);
+                } catch (IOException e) {
+                    log.warn("Ignoring unreadable search index snapshot {}", snapshotPath, e);
+                }
+            }
+            build(loaded != null ? loaded : new SearchIndex());
+        });
+    }
+
+    @Scheduled(cron = "${search.rebuild-cron:0 0 5 * * *}")
+    public void rebuild() {
+        builder.execute(() -> build(new SearchIndex()));
+    }
+
+    @Scheduled(fixedDelayString = "${search.snapshot-interval:10m}", initialDelayString = "${search.snapshot-interval:10m}")
+    public void snapshot() {
+        if (!ready) {
+            return;
+        }
+        try {
+            index.writeTo(snapshotPath);
+        } catch (IOException e) {
+            log.error("Failed to write search index snapshot {}", snapshotPath, e);
+        }
+    }
+
+    public List<SearchHit> search(List<String> terms, int limit) {
+        return index.search(terms, limit);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void consume(Object event) {
+        if (event instanceof TodoSavedEvent || event instanceof TodoUpdatedEvent
+                || event instanceof CommentSavedEvent || event instanceof CommentUpdatedEvent) {
+            handle(event);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        builder.shutdownNow();
+        builder.awaitTermination(10, TimeUnit.SECONDS);
+        snapshot();
+    }
+
+    private void handle(Object event) {
+        synchronized (buildLock) {
+            if (missedDuringBuild != null) {
+                missedDuringBuild.add(event);
+            }
+            apply(index, event);
+        }
+    }
+
+    private void build(SearchIndex target) {
+        long startNanos = System.nanoTime();
+        synchronized (buildLock) {
+            missedDuringBuild = new ArrayList<>();
+        }
+        try {
+            // 스냅샷에 있던 todo 에 새로 달린 댓글, 그다음 스냅샷 이후 todo 와 그 댓글 순서로 읽는다
+            catchUpComments(target, target.getMaxCommentId(), target.getMaxTodoId());
+            catchUpTodos(target, target.getMaxTodoId());
+        } catch (RuntimeException e) {
+            log.error("Failed to build search index", e);
+            synchronized (buildLock) {
+                missedDuringBuild = null;
+            }
+            return;
+        }
+
+        synchronized (buildLock) {
+            long builtMaxTodoId = target.getMaxTodoId();
+            long builtMaxCommentId = target.getMaxCommentId();
+            for (Object event : missedDuringBuild) {
+                // 수정 이벤트는 읽은 시점을 알 수 없어 다시 적용하지 않는다. 다음 재구성에서 맞춰진다.
+                if (event instanceof TodoSavedEvent saved && saved.getTodoId() > builtMaxTodoId) {
+                    apply(target, event);
+                } else if (event instanceof CommentSavedEvent comment
+                        && (comment.getCommentId() > builtMaxCommentId || comment.getTodoId() > builtMaxTodoId)) {
+                    apply(target, event);
+                }
+            }
+            missedDuringBuild = null;
+            index = target;
+            ready = true;
+        }
+        log.info("Search index ready: {} terms, ~{} bytes, {} ms",
+                target.getTermCount(), target.estimatedBytes(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        snapshot();
+    }
+
+    private void catchUpComments(SearchIndex target, long afterCommentId, long maxTodoId) {
+        if (maxTodoId == 0) {
+            return;
+        }
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<CommentIndexRow> rows = commentRepository.streamIndexRowsAfter(afterCommentId, maxTodoId)) {
+                rows.forEach(row -> target.addComment(row.getTodoId(), row.getId(), SearchIndex.commentTerms(row.getContents())));
+            }
+        });
+    }
+
+    // todo 를 chunk 단위로 읽고, 같은 id 범위의 댓글을 합쳐 todo 마다 한 번에 넣는다
+    private void catchUpTodos(SearchIndex target, long afterTodoId) {
+        long afterId = afterTodoId;
+        while (!Thread.currentThread().isInterrupted()) {
+            long cursor = afterId;
+            List<TodoIndexRow> todos = readOnlyTransaction.execute(status ->
+                    todoRepository.findIndexRowsAfter(cursor, PageRequest.of(0, chunkSize)));
+            if (todos == null || todos.isEmpty()) {
+                return;
+            }
+
+            Map<Long, Map<String, Integer>> documents = new LinkedHashMap<>();
+            for (TodoIndexRow todo : todos) {
+                documents.put(todo.getId(), SearchIndex.todoTerms(todo.getTitle(), todo.getContents()));
+            }
+            long fromId = todos.get(0).getId();
+            long toId = todos.get(todos.size() - 1).getId();
+            Long maxCommentId = readOnlyTransaction.execute(status -> {
+                long max = 0;
+                try (Stream<CommentIndexRow> rows = commentRepository.streamIndexRowsByTodoIdBetween(fromId, toId)) {
+                    for (CommentIndexRow row : (Iterable<CommentIndexRow>) rows::iterator) {
+                        Map<String, Integer> terms = documents.get(row.getTodoId());
+                        if (terms != null) {
+                            SearchIndex.commentTerms(row.getContents()).forEach((term, count) -> terms.merge(term, count, Integer::sum));
+                        }
+                        max = Math.max(max, row.getId());
+                    }
+                }
+                return max;
+            });
+
+            documents.forEach(target::addTodo);
+            target.advanceCommentWatermark(maxCommentId != null ? maxCommentId : 0L);
+            afterId = toId;
+        }
+    }
+
+    private static void apply(SearchIndex target, Object event) {
+        if (event instanceof TodoSavedEvent saved) {
+            target.addTodo(saved.getTodoId(), SearchIndex.todoTerms(saved.getTitle(), saved.getContents()));
+        } else if (event instanceof TodoUpdatedEvent updated) {
+            Map<String, Integer> deltas = new HashMap<>(SearchIndex.todoTerms(updated.getTitle(), updated.getContents()));
+            SearchIndex.todoTerms(updated.getPreviousTitle(), updated.getPreviousContents())
+                    .forEach((term, count) -> deltas.merge(term, -count, Integer::sum));
+            target.apply(updated.getTodoId(), deltas);
+        } else if (event instanceof CommentSavedEvent comment) {
+            target.addComment(comment.getTodoId(), comment.getCommentId(), SearchIndex.commentTerms(comment.getContents()));
+        } else if (event instanceof CommentUpdatedEvent updated) {
+            // 댓글 term 은 일정 문서에 합쳐져 있으므로 일정 문서에 차이만 반영한다
+            Map<String, Integer> deltas = new HashMap<>(SearchIndex.commentTerms(updated.getContents()));
+            SearchIndex.commentTerms(updated.getPreviousContents())
+                    .forEach((term, count) -> deltas.merge(term, -count, Integer::sum));
+            target.apply(updated.getTodoId(), deltas);
+        }
+    }
+}
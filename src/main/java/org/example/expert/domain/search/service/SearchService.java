@@ -0,0 +1,62 @@
+package org.example.expert.domain.search.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.search.dto.response.SearchHitResponse;
+import org.example.expert.domain.search.dto.response.SearchResponse;
+import org.example.expert.domain.search.index.SearchHit;
+import org.example.expert.domain.search.index.Tokenizer;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchService {
+
+    private static final int MAX_SIZE = 50;
+    private static final int MAX_TERMS = 16;
+
+    private final SearchIndexManager searchIndexManager;
+    private final TodoRepository todoRepository;
+
+    public SearchResponse search(String query, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        List<String> terms = Tokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        if (terms.size() > MAX_TERMS) {
+            terms = terms.subList(0, MAX_TERMS);
+        }
+
+        List<SearchHit> hits = searchIndexManager.search(terms, size);
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            ids.add(hit.getTodoId());
+        }
+
+        // 색인에는 삭제된 일정이 남아 있을 수 있으므로 DB 에 있는 것만 돌려준다
+        Map<Long, Todo> todos = new HashMap<>();
+        for (Todo todo : todoRepository.findAllById(ids)) {
+            todos.put(todo.getId(), todo);
+        }
+        List<SearchHitResponse> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            Todo todo = todos.get(hit.getTodoId());
+            if (todo != null) {
+                results.add(new SearchHitResponse(todo.getId(), todo.getTitle(), todo.getCommentCount(), hit.getScore()));
+            }
+        }
+        return new SearchResponse(results, searchIndexManager.isReady());
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.annotation.AccessRecord;
+import org.example.expert.domain.todo.dto.request.TodoBulkDeleteRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkDeleteResponse;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoAdminService todoAdminService;
+
+    @AccessRecord
+    @PostMapping("/admin/todos:bulk-delete")
+    public ResponseEntity<TodoBulkDeleteResponse> deleteTodos(
+            @Valid @RequestBody TodoBulkDeleteRequest todoBulkDeleteRequest
+    ) {
+        return ResponseEntity.ok(todoAdminService.deleteTodos(todoBulkDeleteRequest.getIds()));
+    }
+}
@@ -4,11 +4,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.etag.VersionETag;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.ManagedTodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoUpdateService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoUpdateService todoUpdateService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -36,6 +42,40 @@ public class TodoController {
 
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+        TodoResponse response = todoService.getTodo(todoId);
+        return ResponseEntity.ok()
+                .eTag(VersionETag.format(response.getVersion()))
+                .body(response);
+    }
+
+    @PatchMapping("/todos/{todoId}")
+    public ResponseEntity<TodoResponse> updateTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody TodoUpdateRequest todoUpdateRequest
+    ) {
+        long version = VersionETag.parseIfMatch(ifMatch);
+        TodoResponse response = todoUpdateService.updateTodo(authUser, todoId, version, todoUpdateRequest);
+        return ResponseEntity.ok()
+                .eTag(VersionETag.format(response.getVersion()))
+                .body(response);
+    }
+
+    @GetMapping("/users/me/managed-todos")
+    public ResponseEntity<ManagedTodoPageResponse> getManagedTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(todoService.getManagedTodos(authUser, cursor, size));
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId
+    ) {
+        todoService.deleteTodo(authUser, todoId);
     }
 }
@@ -0,0 +1,31 @@
+package org.example.expert.domain.todo.dto.projection;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ManagedTodoRow {
+
+    private final Long id;
+    private final String title;
+    private final String weather;
+    private final Long userId;
+    private final String email;
+    private final long commentCount;
+    private final long managerCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public ManagedTodoRow(Long id, String title, String weather, Long userId, String email, long commentCount, long managerCount, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.weather = weather;
+        this.userId = userId;
+        this.email = email;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
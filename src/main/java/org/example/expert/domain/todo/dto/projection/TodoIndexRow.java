@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.projection;
+
+import lombok.Getter;
+
+@Getter
+public class TodoIndexRow {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+
+    public TodoIndexRow(Long id, String title, String contents) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.projection;
+
+import lombok.Getter;
+
+@Getter
+public class TodoOwnerRow {
+
+    private final Long todoId;
+    private final Long userId;
+
+    public TodoOwnerRow(Long todoId, Long userId) {
+        this.todoId = todoId;
+        this.userId = userId;
+    }
+}
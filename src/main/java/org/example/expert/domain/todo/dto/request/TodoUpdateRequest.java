@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보낸 필드만 바꾼다. null 은 그대로 둔다는 뜻이다
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoUpdateRequest {
+
+    private String title;
+    private String contents;
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ManagedTodoPageResponse {
+
+    private final List<ManagedTodoResponse> todos;
+    private final String nextCursor;
+
+    public ManagedTodoPageResponse(List<ManagedTodoResponse> todos, String nextCursor) {
+        this.todos = todos;
+        this.nextCursor = nextCursor;
+    }
+}
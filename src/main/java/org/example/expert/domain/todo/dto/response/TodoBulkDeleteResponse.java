@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoBulkDeleteResponse {
+
+    private final int todos;
+    private final int comments;
+    private final int managers;
+
+    public TodoBulkDeleteResponse(int todos, int comments, int managers) {
+        this.todos = todos;
+        this.comments = comments;
+        this.managers = managers;
+    }
+}
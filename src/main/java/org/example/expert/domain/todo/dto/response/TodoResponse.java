@@ -13,16 +13,23 @@ public class TodoResponse {
     private final String contents;
     private final String weather;
     private final UserResponse user;
+    private final long commentCount;
+    private final long managerCount;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    // PATCH 의 If-Match 에 ETag 로 보낸다
+    private final long version;
 
-    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, long commentCount, long managerCount, LocalDateTime createdAt, LocalDateTime modifiedAt, long version) {
         this.id = id;
         this.title = title;
         this.contents = contents;
         this.weather = weather;
         this.user = user;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.version = version;
     }
 }
@@ -5,29 +5,57 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.common.id.TsidId;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
+@DynamicUpdate
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // 최근 수정 순 목록과 보관 대상 조회용
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TsidId
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 동시 수정 감지용. 카운터의 원자적 UPDATE 는 버전을 올리지 않으므로 댓글/담당자 변경과는 충돌하지 않는다.
+    // @DynamicUpdate 로 바뀐 컬럼만 UPDATE 하므로 엔티티에 남은 오래된 카운터 값이 덮어쓰이지도 않는다.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    // 목록 조회 시 COUNT 없이 보여주기 위한 비정규화 카운터. 원자적 UPDATE 로만 변경한다.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount;
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long managerCount;
+
+    // 마지막 댓글/담당자 변경 시각. 카운터 UPDATE 가 함께 남기며, 보관 대상을 고를 때만 쓴다.
+    // modified_at 은 일정 자체를 고친 시각으로 남겨 두어 목록 순서와 응답의 수정 시각이 댓글로 바뀌지 않게 한다.
+    private LocalDateTime lastActivityAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 삭제는 TodoService/TodoAdminService 에서 벌크 DELETE 로 한다. REMOVE cascade 는 댓글을 한 건씩 지운다.
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
@@ -39,6 +67,7 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size();
     }
 
     public void update(String title, String contents) {
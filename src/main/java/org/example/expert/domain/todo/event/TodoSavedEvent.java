@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+@Getter
+public class TodoSavedEvent {
+
+    private final Long todoId;
+    // 작성자. 일정을 만들면 담당자로도 등록된다
+    private final Long userId;
+    private final String title;
+    private final String contents;
+
+    public TodoSavedEvent(Long todoId, Long userId, String title, String contents) {
+        this.todoId = todoId;
+        this.userId = userId;
+        this.title = title;
+        this.contents = contents;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+/**
+ * Todo.update 후 발행한다. 검색 색인이 이전 term 을 빼야 하므로 수정 전 값도 담는다.
+ */
+@Getter
+public class TodoUpdatedEvent {
+
+    private final Long todoId;
+    private final String previousTitle;
+    private final String previousContents;
+    private final String title;
+    private final String contents;
+
+    public TodoUpdatedEvent(Long todoId, String previousTitle, String previousContents, String title, String contents) {
+        this.todoId = todoId;
+        this.previousTitle = previousTitle;
+        this.previousContents = previousContents;
+        this.title = title;
+        this.contents = contents;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+
+@Getter
+public class TodosDeletedEvent {
+
+    private final Collection<Long> todoIds;
+
+    public TodosDeletedEvent(Collection<Long> todoIds) {
+        this.todoIds = todoIds;
+    }
+}
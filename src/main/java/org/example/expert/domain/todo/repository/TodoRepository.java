@@ -1,12 +1,19 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.projection.ManagedTodoRow;
+import org.example.expert.domain.todo.dto.projection.TodoIndexRow;
+import org.example.expert.domain.todo.dto.projection.TodoOwnerRow;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
@@ -20,4 +27,89 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    // 작성자가 없는 일정도 구분할 수 있도록 LEFT JOIN 으로 조회한다
+    @Query("SELECT new org.example.expert.domain.todo.dto.projection.TodoOwnerRow(t.id, u.id) " +
+            "FROM Todo t LEFT JOIN t.user u WHERE t.id = :todoId")
+    Optional<TodoOwnerRow> findOwnerById(@Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.projection.TodoIndexRow(t.id, t.title, t.contents) " +
+            "FROM Todo t WHERE t.id > :afterId ORDER BY t.id")
+    List<TodoIndexRow> findIndexRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 담당 일정 목록. managers (user_id, todo_id) 인덱스로 담당 일정만 찾고 (modified_at, id) 역순 keyset 으로 자른다
+    @Query("SELECT new org.example.expert.domain.todo.dto.projection.ManagedTodoRow(" +
+            "t.id, t.title, t.weather, u.id, u.email, t.commentCount, t.managerCount, t.createdAt, t.modifiedAt) " +
+            "FROM Manager m JOIN m.todo t JOIN t.user u " +
+            "WHERE m.user.id = :userId " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<ManagedTodoRow> findManagedTodos(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.projection.ManagedTodoRow(" +
+            "t.id, t.title, t.weather, u.id, u.email, t.commentCount, t.managerCount, t.createdAt, t.modifiedAt) " +
+            "FROM Manager m JOIN m.todo t JOIN t.user u " +
+            "WHERE m.user.id = :userId " +
+            "AND (t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id)) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<ManagedTodoRow> findManagedTodosBefore(
+            @Param("userId") Long userId,
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 있는 일정만 id 순서로 잠그고 돌려준다. 댓글/담당자를 JDBC 로 넣는 동안 보관 작업이 일정을 옮기지 못하게 한다
+    @Query(value = "SELECT id FROM todos WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 댓글 수를 바꾸고 활동 시각을 남긴다. 일정이 없으면 0 을 돌려준다.
+     * 일정 행을 잠그므로 같은 트랜잭션에서 넣는 댓글은 커밋까지 보관 작업과 겹치지 않고,
+     * 활동 시각이 남으므로 댓글이 달리는 일정은 보관 대상이 되지 않는다. 수정 시각(modified_at)은 건드리지 않는다.
+     */
+    default int addCommentCount(Long todoId, long delta) {
+        return addCommentCount(todoId, delta, LocalDateTime.now());
+    }
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta, t.lastActivityAt = :now WHERE t.id = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    /**
+     * 담당자 수를 바꾸고 활동 시각을 남긴다. 잠금과 보관 대상에 대한 효과는 {@link #addCommentCount(Long, long)} 와 같다.
+     */
+    default int addManagerCount(Long todoId, long delta) {
+        return addManagerCount(todoId, delta, LocalDateTime.now());
+    }
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta, t.lastActivityAt = :now WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 수정과 활동이 모두 cutoff 전인(GREATEST(modified_at, last_activity_at) < cutoff) 보관 대상을 (modified_at, id) 인덱스
+    // 순서로 앞에서부터 잠그고 가져온다. GREATEST 로 쓰면 인덱스를 못 타므로 두 조건으로 나눈다. 옮긴 행은 사라지므로 커서가 필요 없다.
+    // 댓글/담당자 추가는 먼저 일정 행을 잠그므로(카운터 UPDATE, lockExistingIds, INSERT ... SELECT) 잠금을 기다렸다가
+    // 일정이 없는 것으로 "Todo not found" 가 되고, 먼저 잠근 쪽이 커밋하면 활동 시각이 남아 대상에서 빠진다.
+    @Query(value = "SELECT id FROM todos " +
+            "WHERE modified_at < :cutoff AND (last_activity_at IS NULL OR last_activity_at < :cutoff) " +
+            "ORDER BY modified_at, id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockIdsInactiveBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 실제 개수와 다른 행만 갱신한다
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id) " +
+            "WHERE t.id >= :fromId AND t.id <= :toId " +
+            "AND (t.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) " +
+            "OR t.managerCount <> (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id))")
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,43 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoBulkDeleteResponse;
+import org.example.expert.domain.todo.event.TodosDeletedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class TodoAdminService {
+
+    private static final int MAX_IDS = 1_000;
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public TodoBulkDeleteResponse deleteTodos(List<Long> ids) {
+        Set<Long> todoIds = new LinkedHashSet<>(ids);
+        if (todoIds.size() > MAX_IDS) {
+            throw new InvalidRequestException("한 번에 삭제할 수 있는 일정은 " + MAX_IDS + "개 이하입니다.");
+        }
+
+        // 자식 테이블부터 todo_id IN (...) 으로 지운다. 문장 수는 일정/댓글 수와 무관하게 세 개다.
+        int comments = commentRepository.deleteAllByTodoIdIn(todoIds);
+        int managers = managerRepository.deleteAllByTodoIdIn(todoIds);
+        int todos = todoRepository.deleteAllByIdIn(todoIds);
+        eventPublisher.publishEvent(new TodosDeletedEvent(todoIds));
+        return new TodoBulkDeleteResponse(todos, comments, managers);
+    }
+}
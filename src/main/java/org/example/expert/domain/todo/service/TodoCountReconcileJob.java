@@ -0,0 +1,55 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * todos 의 comment_count, manager_count 를 실제 개수와 비교해 어긋난 행을 바로잡는다.
+ * id 순서로 chunk-size 개씩 나누어 chunk 마다 별도 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Component
+public class TodoCountReconcileJob {
+
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public TodoCountReconcileJob(
+            TodoRepository todoRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.count-reconcile.chunk-size:1000}") int chunkSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${todo.count-reconcile.cron:0 30 4 * * *}")
+    public void reconcile() {
+        long afterId = 0L;
+        int fixed = 0;
+        while (true) {
+            List<Long> ids = todoRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Long fromId = ids.get(0);
+            Long toId = ids.get(ids.size() - 1);
+            Integer updated = transactionTemplate.execute(status -> todoRepository.reconcileCounts(fromId, toId));
+            fixed += updated != null ? updated : 0;
+            afterId = toId;
+        }
+        if (fixed > 0) {
+            log.warn("Reconciled comment/manager counts of {} todos", fixed);
+        }
+    }
+}
@@ -2,28 +2,52 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.archive.entity.ArchivedTodo;
+import org.example.expert.domain.archive.repository.ArchivedTodoRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.projection.ManagedTodoRow;
+import org.example.expert.domain.todo.dto.projection.TodoOwnerRow;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.ManagedTodoPageResponse;
+import org.example.expert.domain.todo.dto.response.ManagedTodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.event.TodosDeletedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = "_";
+
     private final TodoRepository todoRepository;
+    private final ArchivedTodoRepository archivedTodoRepository;
     private final WeatherClient weatherClient;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
@@ -38,6 +62,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        eventPublisher.publishEvent(new TodoSavedEvent(savedTodo.getId(), user.getId(), savedTodo.getTitle(), savedTodo.getContents()));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -59,15 +84,102 @@ public class TodoService {
                 todo.getContents(),
                 todo.getWeather(),
                 new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getVersion()
         ));
     }
 
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
+        Todo todo = todoRepository.findByIdWithUser(todoId).orElse(null);
+        if (todo == null) {
+            // 오래되어 보관 테이블로 옮겨진 일정이면 그쪽에서 읽는다
+            ArchivedTodo archived = archivedTodoRepository.findByIdWithUser(todoId)
+                    .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+            return toResponse(archived);
+        }
+
+        User user = todo.getUser();
+
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(user.getId(), user.getEmail()),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
+                todo.getCreatedAt(),
+                todo.getModifiedAt(),
+                todo.getVersion()
+        );
+    }
+
+    /**
+     * 로그인한 유저가 담당자로 등록된 일정을 최근 수정 순으로 돌려준다.
+     * 커서는 마지막 항목의 "수정 시각(epoch 마이크로초)_id" 이다.
+     * 수정 시각은 바뀌는 값이므로, 페이지를 넘기는 사이 수정된 일정은 앞 페이지로 옮겨져 빠지거나
+     * 이미 지나온 위치로 옮겨져 다시 보일 수 있다. (목록은 그 시점의 정확한 스냅샷이 아니다)
+     */
+    public ManagedTodoPageResponse getManagedTodos(AuthUser authUser, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 size + 1 개를 조회한다
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<ManagedTodoRow> rows;
+        if (cursor == null) {
+            rows = todoRepository.findManagedTodos(authUser.getId(), pageable);
+        } else {
+            long[] position = parseCursor(cursor);
+            rows = todoRepository.findManagedTodosBefore(
+                    authUser.getId(), fromEpochMicros(position[0]), position[1], pageable);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            ManagedTodoRow last = rows.get(size - 1);
+            nextCursor = toEpochMicros(last.getModifiedAt()) + CURSOR_SEPARATOR + last.getId();
+        }
+
+        List<ManagedTodoResponse> dtoList = new ArrayList<>();
+        for (ManagedTodoRow row : rows) {
+            dtoList.add(new ManagedTodoResponse(
+                    row.getId(),
+                    row.getTitle(),
+                    row.getWeather(),
+                    new UserResponse(row.getUserId(), row.getEmail()),
+                    row.getCommentCount(),
+                    row.getManagerCount(),
+                    row.getCreatedAt(),
+                    row.getModifiedAt()
+            ));
+        }
+        return new ManagedTodoPageResponse(dtoList, nextCursor);
+    }
+
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        TodoOwnerRow owner = todoRepository.findOwnerById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
+        if (owner.getUserId() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), owner.getUserId())) {
+            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        // 댓글 수와 관계없이 테이블마다 DELETE 한 번으로 지운다
+        List<Long> todoIds = List.of(todoId);
+        commentRepository.deleteAllByTodoIdIn(todoIds);
+        managerRepository.deleteAllByTodoIdIn(todoIds);
+        todoRepository.deleteAllByIdIn(todoIds);
+        eventPublisher.publishEvent(new TodosDeletedEvent(todoIds));
+    }
+
+    private TodoResponse toResponse(ArchivedTodo todo) {
         User user = todo.getUser();
 
         return new TodoResponse(
@@ -76,8 +188,42 @@ public class TodoService {
                 todo.getContents(),
                 todo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail()),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getVersion()
+        );
+    }
+
+    // DB 가 마이크로초까지 저장하므로 커서도 마이크로초 단위로 둔다. 시간대는 인코딩에만 쓰인다.
+    // 숫자에 나올 수 없는 구분자를 쓰고, 두 값 모두 음수가 아닌 숫자인지 확인한다
+    private static long[] parseCursor(String cursor) {
+        int separator = cursor.indexOf(CURSOR_SEPARATOR);
+        if (separator <= 0 || separator != cursor.lastIndexOf(CURSOR_SEPARATOR)) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+        try {
+            long epochMicros = Long.parseLong(cursor, 0, separator, 10);
+            long id = Long.parseLong(cursor, separator + 1, cursor.length(), 10);
+            if (epochMicros < 0 || id < 0) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+            return new long[]{epochMicros, id};
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC
         );
     }
 }
@@ -0,0 +1,135 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoUpdatedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * 일정 수정(PATCH). 행 락 없이 @Version 으로 동시 수정을 감지한다.
+ * <ul>
+ *     <li>If-Match 의 버전이 현재 버전과 다르면 412 로 거절한다. 클라이언트가 다시 조회해야 한다.</li>
+ *     <li>버전을 확인한 뒤 UPDATE 하기 전에 다른 수정이 먼저 커밋되면, 그 수정이 이번 요청이 바꾸는 필드를
+ *     건드리지 않았을 때만 최신 상태에 다시 적용한다. 최대 max-attempts 번 시도한다.</li>
+ * </ul>
+ * 버전 충돌이 난 영속성 컨텍스트는 다시 쓸 수 없으므로 시도마다 새 트랜잭션을 쓴다.
+ */
+@Service
+public class TodoUpdateService {
+
+    private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+
+    public TodoUpdateService(
+            TodoRepository todoRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${optimistic-lock.max-attempts:3}") int maxAttempts
+    ) {
+        this.todoRepository = todoRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+    }
+
+    public TodoResponse updateTodo(AuthUser authUser, long todoId, long expectedVersion, TodoUpdateRequest request) {
+        if (request.getTitle() == null && request.getContents() == null) {
+            throw new InvalidRequestException("수정할 필드가 없습니다.");
+        }
+        if (isBlank(request.getTitle()) || isBlank(request.getContents())) {
+            throw new InvalidRequestException("제목과 내용은 비워 둘 수 없습니다.");
+        }
+
+        // 첫 시도에서 If-Match 버전으로 확인한 값. 재시도 때 다른 수정이 같은 필드를 바꿨는지 비교한다
+        BaseValues base = new BaseValues();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> tryUpdate(authUser, todoId, expectedVersion, request, base));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw new PreconditionFailedException("동시 수정이 계속 충돌했습니다. 다시 조회한 뒤 수정해 주세요.", null);
+                }
+            }
+        }
+    }
+
+    private TodoResponse tryUpdate(AuthUser authUser, long todoId, long expectedVersion, TodoUpdateRequest request, BaseValues base) {
+        Todo todo = todoRepository.findByIdWithUser(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        User user = todo.getUser();
+        if (user == null || !ObjectUtils.nullSafeEquals(authUser.getId(), user.getId())) {
+            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        if (!base.captured) {
+            if (todo.getVersion() != expectedVersion) {
+                throw new PreconditionFailedException("다른 사용자가 먼저 수정했습니다. 다시 조회한 뒤 수정해 주세요.", todo.getVersion());
+            }
+            base.captured = true;
+            base.title = todo.getTitle();
+            base.contents = todo.getContents();
+        } else if (changedConcurrently(request.getTitle(), base.title, todo.getTitle())
+                || changedConcurrently(request.getContents(), base.contents, todo.getContents())) {
+            throw new PreconditionFailedException("다른 사용자가 같은 필드를 먼저 수정했습니다. 다시 조회한 뒤 수정해 주세요.", todo.getVersion());
+        }
+        return apply(todo, request);
+    }
+
+    private TodoResponse apply(Todo todo, TodoUpdateRequest request) {
+        String previousTitle = todo.getTitle();
+        String previousContents = todo.getContents();
+        String title = request.getTitle() != null ? request.getTitle() : previousTitle;
+        String contents = request.getContents() != null ? request.getContents() : previousContents;
+
+        if (!title.equals(previousTitle) || !contents.equals(previousContents)) {
+            todo.update(title, contents);
+            // 바뀐 컬럼만 "WHERE id = ? AND version = ?" 로 UPDATE 한다. 충돌은 여기서 드러난다
+            todoRepository.flush();
+            eventPublisher.publishEvent(new TodoUpdatedEvent(todo.getId(), previousTitle, previousContents, title, contents));
+        }
+
+        User user = todo.getUser();
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(user.getId(), user.getEmail()),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
+                todo.getCreatedAt(),
+                todo.getModifiedAt(),
+                todo.getVersion()
+        );
+    }
+
+    private static boolean changedConcurrently(String requested, String base, String current) {
+        return requested != null && !ObjectUtils.nullSafeEquals(base, current);
+    }
+
+    private static boolean isBlank(String value) {
+        return value != null && value.isBlank();
+    }
+
+    private static final class BaseValues {
+
+        private boolean captured;
+        private String title;
+        private String contents;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.example.expert.JwtVerify")
+@Label("JWT Verify")
+@Description("JwtFilter 에서 토큰 서명 검증과 claims 추출에 걸린 시간")
+@Category({"Expert", "Auth"})
+@StackTrace(false)
+public class JwtVerifyEvent extends Event {
+
+    @Label("Route")
+    public String route;
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Verified")
+    public boolean verified;
+}
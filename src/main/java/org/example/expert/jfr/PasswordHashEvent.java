@@ -0,0 +1,25 @@
+package org.example.expert.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.example.expert.PasswordHash")
+@Label("Password Hash")
+@Description("PasswordEncoder 의 bcrypt 해시 생성/검증 시간과 cost")
+@Category({"Expert", "Auth"})
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Cost")
+    public int cost;
+
+    @Label("Matched")
+    public boolean matched;
+}
@@ -0,0 +1,32 @@
+package org.example.expert.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.example.expert.RepositoryCall")
+@Label("Repository Call")
+@Description("Spring Data 리포지토리 메서드 호출 시간")
+@Category({"Expert", "Repository"})
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    public String route;
+
+    @Label("Entity Id")
+    @Description("첫 번째 long 파라미터, 없으면 0")
+    public long entityId;
+
+    @Label("Success")
+    public boolean success;
+}
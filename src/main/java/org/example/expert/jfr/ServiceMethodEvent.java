@@ -0,0 +1,32 @@
+package org.example.expert.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.example.expert.ServiceMethod")
+@Label("Service Method")
+@Description("@Transactional 서비스 메서드 실행 시간 (트랜잭션 포함)")
+@Category({"Expert", "Service"})
+@StackTrace(false)
+public class ServiceMethodEvent extends Event {
+
+    @Label("Service")
+    public String service;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    public String route;
+
+    @Label("Entity Id")
+    @Description("첫 번째 long 파라미터, 없으면 0")
+    public long entityId;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,25 @@
+package org.example.expert.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.example.expert.WeatherCall")
+@Label("Weather Call")
+@Description("WeatherClient 의 외부 날씨 API 호출 시간")
+@Category({"Expert", "Client"})
+@StackTrace(false)
+public class WeatherCallEvent extends Event {
+
+    @Label("URI")
+    public String uri;
+
+    @Label("Status Code")
+    public int statusCode;
+
+    @Label("Success")
+    public boolean success;
+}
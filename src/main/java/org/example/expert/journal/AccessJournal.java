@@ -0,0 +1,287 @@
+package org.example.expert.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 접근 기록을 고정 길이 바이너리 레코드로 메모리 맵 세그먼트 파일에 append 한다.
+ * 세그먼트는 용량이 가득 차거나 rotate-interval 경계(기본 하루)를 넘으면 교체되며,
+ * 라우트 문자열은 routes.dict 파일에 id 로 등록해 레코드에는 int 로만 기록한다.
+ * 재시작 시 마지막 세그먼트를 다시 열어 이어서 기록한다.
+ * 닫힌 세그먼트는 기록할 때의 매핑(재시작 후에는 시작 시 연 읽기 매핑)을 그대로 재사용하므로
+ * 조회가 파일을 새로 열지 않고, 보관 기간 삭제와 동시에 실행되어도 이미 잡은 매핑으로 끝까지 읽는다.
+ */
+@Slf4j
+@Component
+public class AccessJournal {
+
+    private static final String SEGMENT_PREFIX = "access-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String ROUTE_DICTIONARY = "routes.dict";
+
+    private final Path directory;
+    private final int segmentCapacity;
+    private final long rotateIntervalMillis;
+
+    private final Map<String, Integer> routeIds = new ConcurrentHashMap<>();
+    private final Map<Integer, String> routes = new ConcurrentHashMap<>();
+    private BufferedWriter routeWriter;
+
+    // 닫힌 세그먼트 시작 시각 -> 세그먼트 (매핑은 목록에서 빠지고 참조하는 조회가 끝나면 GC 가 해제한다)
+    private final TreeMap<Long, AccessJournalSegment> closedSegments = new TreeMap<>();
+    private AccessJournalSegment activeSegment;
+
+    public AccessJournal(
+            @Value("${access-journal.dir:access-journal}") Path directory,
+            @Value("${access-journal.segment-bytes:67108864}") long segmentBytes,
+            @Value("${access-journal.rotate-interval:1d}") Duration rotateInterval
+    ) {
+        this.directory = directory;
+        this.segmentCapacity = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(1, (segmentBytes - AccessJournalSegment.HEADER_BYTES) / AccessJournalSegment.RECORD_BYTES));
+        this.rotateIntervalMillis = rotateInterval.toMillis();
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        loadRoutes();
+        routeWriter = Files.newBufferedWriter(directory.resolve(ROUTE_DICTIONARY), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        TreeMap<Long, Path> files = new TreeMap<>();
+        for (Path path : listSegmentFiles()) {
+            files.put(segmentStart(path), path);
+        }
+        if (files.isEmpty()) {
+            return;
+        }
+        Map.Entry<Long, Path> last = files.pollLastEntry();
+        for (Map.Entry<Long, Path> entry : files.entrySet()) {
+            closedSegments.put(entry.getKey(), AccessJournalSegment.openForRead(entry.getValue()));
+        }
+        activeSegment = AccessJournalSegment.openForAppend(last.getValue());
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (activeSegment != null) {
+            activeSegment.force();
+        }
+        if (routeWriter != null) {
+            routeWriter.close();
+        }
+    }
+
+    /**
+     * 라우트 문자열에 대응하는 id. 이미 등록된 라우트는 할당 없이 조회된다.
+     */
+    public int routeId(String route) {
+        Integer id = routeIds.get(route);
+        if (id != null) {
+            return id;
+        }
+        return registerRoute(route);
+    }
+
+    /**
+     * 등록되지 않은 라우트면 0 을 반환한다. (라우트 id 는 1 부터 시작)
+     */
+    public int findRouteId(String route) {
+        return routeIds.getOrDefault(route, 0);
+    }
+
+    public String route(int routeId) {
+        return routes.get(routeId);
+    }
+
+    /**
+     * 레코드 하나를 현재 세그먼트에 기록한다. 세그먼트 교체 시점을 제외하면 객체를 할당하지 않는다.
+     */
+    public synchronized void append(long userId, long epochMillis, int routeId, int status) {
+        if (activeSegment == null || activeSegment.isFull() || isExpired(activeSegment, epochMillis)) {
+            rotate(epochMillis);
+        }
+        activeSegment.append(userId, epochMillis, routeId, status);
+    }
+
+    /**
+     * [fromMillis, toMillis) 구간의 레코드를 세그먼트 시작 시각 순서로 읽는다.
+     * 구간과 겹치지 않는 세그먼트는 열지 않으며, visitor 가 false 를 반환하면 중단한다.
+     */
+    public void scan(long fromMillis, long toMillis, Predicate<AccessJournalEntry> visitor) {
+        scan(fromMillis, toMillis, Long.MIN_VALUE, -1, visitor);
+    }
+
+    /**
+     * (afterSegment, afterIndex) 위치 다음 레코드부터 읽는다. 키셋 페이징의 커서로 사용한다.
+     */
+    public void scan(long fromMillis, long toMillis, long afterSegment, int afterIndex,
+                     Predicate<AccessJournalEntry> visitor) {
+        for (SegmentView view : segmentsOverlapping(fromMillis, toMillis)) {
+            AccessJournalSegment segment = view.segment;
+            if (segment.getStartMillis() < afterSegment) {
+                continue;
+            }
+            int first = segment.getStartMillis() == afterSegment ? afterIndex + 1 : 0;
+            for (int i = first; i < view.size; i++) {
+                long epochMillis = segment.epochMillis(i);
+                if (epochMillis < fromMillis || epochMillis >= toMillis) {
+                    continue;
+                }
+                int routeId = segment.routeId(i);
+                AccessJournalEntry entry = new AccessJournalEntry(segment.getStartMillis(), i,
+                        segment.userId(i), epochMillis, routeId, route(routeId), segment.status(i));
+                if (!visitor.test(entry)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // 락 안에서 세그먼트와 크기를 스냅샷한다. 파일은 열지 않으므로 이후 삭제되어도 조회에 영향이 없다
+    private synchronized List<SegmentView> segmentsOverlapping(long fromMillis, long toMillis) {
+        List<SegmentView> views = new ArrayList<>();
+        // 각 세그먼트는 다음 세그먼트의 시작 시각 전까지를 담는다
+        Long floor = closedSegments.floorKey(fromMillis);
+        Long start = floor != null ? floor : fromMillis;
+        for (AccessJournalSegment segment : closedSegments.subMap(start, true, toMillis, false).values()) {
+            views.add(new SegmentView(segment, segment.getSize()));
+        }
+        if (activeSegment != null && activeSegment.getStartMillis() < toMillis) {
+            views.add(new SegmentView(activeSegment, activeSegment.getSize()));
+        }
+        return views;
+    }
+
+    /**
+     * startMillis 가 cutoffMillis 이전이고 cutoffMillis 전에 끝난 닫힌 세그먼트를 파일째 삭제한다.
+     */
+    public int dropSegmentsBefore(long cutoffMillis) throws IOException {
+        List<Path> expired = new ArrayList<>();
+        synchronized (this) {
+            while (!closedSegments.isEmpty()) {
+                Map.Entry<Long, AccessJournalSegment> first = closedSegments.firstEntry();
+                Long nextStart = closedSegments.higherKey(first.getKey());
+                long end = nextStart != null ? nextStart
+                        : activeSegment != null ? activeSegment.getStartMillis() : Long.MAX_VALUE;
+                if (end > cutoffMillis) {
+                    break;
+                }
+                expired.add(closedSegments.pollFirstEntry().getValue().getPath());
+            }
+        }
+        for (Path path : expired) {
+            Files.deleteIfExists(path);
+        }
+        return expired.size();
+    }
+
+    private boolean isExpired(AccessJournalSegment segment, long epochMillis) {
+        return epochMillis >= alignedStart(segment.getStartMillis()) + rotateIntervalMillis;
+    }
+
+    private long alignedStart(long epochMillis) {
+        return Math.floorDiv(epochMillis, rotateIntervalMillis) * rotateIntervalMillis;
+    }
+
+    private void rotate(long epochMillis) {
+        try {
+            if (activeSegment != null) {
+                activeSegment.force();
+                closedSegments.put(activeSegment.getStartMillis(), activeSegment);
+            }
+            // 시간 경계로 교체되면 구간 시작 시각으로, 용량 초과로 교체되면 현재 시각으로 시작한다
+            long start = activeSegment == null || isExpired(activeSegment, epochMillis)
+                    ? alignedStart(epochMillis) : epochMillis;
+            while (closedSegments.containsKey(start)) {
+                start++;
+            }
+            activeSegment = AccessJournalSegment.create(segmentPath(start), start, segmentCapacity);
+        } catch (IOException e) {
+            throw new ServerException("접근 기록 세그먼트를 생성하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    private synchronized int registerRoute(String route) {
+        Integer existing = routeIds.get(route);
+        if (existing != null) {
+            return existing;
+        }
+        int id = routeIds.size() + 1;
+        try {
+            routeWriter.write(id + "\t" + route);
+            routeWriter.newLine();
+            routeWriter.flush();
+        } catch (IOException e) {
+            throw new ServerException("접근 기록 라우트를 등록하지 못했습니다: " + e.getMessage());
+        }
+        routes.put(id, route);
+        routeIds.put(route, id);
+        return id;
+    }
+
+    private void loadRoutes() throws IOException {
+        Path dictionary = directory.resolve(ROUTE_DICTIONARY);
+        if (!Files.exists(dictionary)) {
+            return;
+        }
+        for (String line : Files.readAllLines(dictionary, StandardCharsets.UTF_8)) {
+            int tab = line.indexOf('\t');
+            if (tab < 0) {
+                continue;
+            }
+            int id = Integer.parseInt(line.substring(0, tab));
+            String route = line.substring(tab + 1);
+            routes.put(id, route);
+            routeIds.put(route, id);
+        }
+    }
+
+    private List<Path> listSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).toList();
+        }
+    }
+
+    private Path segmentPath(long startMillis) {
+        return directory.resolve(SEGMENT_PREFIX + startMillis + SEGMENT_SUFFIX);
+    }
+
+    private long segmentStart(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static class SegmentView {
+        private final AccessJournalSegment segment;
+        private final int size;
+
+        private SegmentView(AccessJournalSegment segment, int size) {
+            this.segment = segment;
+            this.size = size;
+        }
+    }
+}
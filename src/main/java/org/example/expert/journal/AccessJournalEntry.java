@@ -0,0 +1,25 @@
+package org.example.expert.journal;
+
+import lombok.Getter;
+
+@Getter
+public class AccessJournalEntry {
+
+    private final long segment;
+    private final int index;
+    private final long userId;
+    private final long epochMillis;
+    private final int routeId;
+    private final String route;
+    private final int status;
+
+    public AccessJournalEntry(long segment, int index, long userId, long epochMillis, int routeId, String route, int status) {
+        this.segment = segment;
+        this.index = index;
+        this.userId = userId;
+        this.epochMillis = epochMillis;
+        this.routeId = routeId;
+        this.route = route;
+        this.status = status;
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 보관 기간이 지난 접근 기록 세그먼트(일 단위 파티션)를 파일째 삭제한다.
+ */
+@Slf4j
+@Component
+public class AccessJournalRetentionJob {
+
+    private final AccessJournal accessJournal;
+    private final Duration retention;
+
+    public AccessJournalRetentionJob(
+            AccessJournal accessJournal,
+            @Value("${access-journal.retention:30d}") Duration retention
+    ) {
+        this.accessJournal = accessJournal;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${access-journal.retention-cron:0 0 3 * * *}")
+    public void dropExpiredSegments() {
+        try {
+            int dropped = accessJournal.dropSegmentsBefore(System.currentTimeMillis() - retention.toMillis());
+            if (dropped > 0) {
+                log.info("Dropped {} expired access journal segments", dropped);
+            }
+        } catch (IOException e) {
+            log.error("Failed to drop expired access journal segments", e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.expert.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 접근 기록 세그먼트 파일 하나.
+ * <pre>
+ * header (32 bytes) : magic(int) version(int) startMillis(long) capacity(int) reserved(12)
+ * record (24 bytes) : epochMillis(long) userId(long) routeId(int) status(int)
+ * </pre>
+ * 파일은 생성 시 전체 크기로 할당되고, epochMillis 가 0 인 첫 레코드가 끝을 나타낸다.
+ * epochMillis 는 레코드의 나머지 필드를 쓴 뒤 마지막에 써서 커밋 마커로 사용한다.
+ */
+class AccessJournalSegment {
+
+    static final int MAGIC = 0x414A4E4C; // "AJNL"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int RECORD_BYTES = 24;
+
+    private static final int EPOCH_OFFSET = 0;
+    private static final int USER_OFFSET = 8;
+    private static final int ROUTE_OFFSET = 16;
+    private static final int STATUS_OFFSET = 20;
+
+    private final Path path;
+    private final long startMillis;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+    private int size;
+
+    private AccessJournalSegment(Path path, long startMillis, int capacity, MappedByteBuffer buffer, int size) {
+        this.path = path;
+        this.startMillis = startMillis;
+        this.capacity = capacity;
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    static AccessJournalSegment create(Path path, long startMillis, int capacity) throws IOException {
+        long fileBytes = HEADER_BYTES + (long) capacity * RECORD_BYTES;
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileBytes);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putLong(8, startMillis);
+            buffer.putInt(16, capacity);
+            return new AccessJournalSegment(path, startMillis, capacity, buffer, 0);
+        }
+    }
+
+    static AccessJournalSegment openForAppend(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            return open(path, buffer);
+        }
+    }
+
+    static AccessJournalSegment openForRead(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return open(path, buffer);
+        }
+    }
+
+    private static AccessJournalSegment open(Path path, MappedByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("접근 기록 세그먼트 형식이 올바르지 않습니다: " + path);
+        }
+        long startMillis = buffer.getLong(8);
+        int capacity = buffer.getInt(16);
+        return new AccessJournalSegment(path, startMillis, capacity, buffer, findSize(buffer, capacity));
+    }
+
+    // 레코드는 앞에서부터 순서대로 채워지므로 비어있는 첫 슬롯을 이진 탐색으로 찾는다
+    private static int findSize(ByteBuffer buffer, int capacity) {
+        int low = 0;
+        int high = capacity;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.getLong(offset(mid) + EPOCH_OFFSET) != 0L) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int offset(int index) {
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+
+    boolean isFull() {
+        return size >= capacity;
+    }
+
+    void append(long userId, long epochMillis, int routeId, int status) {
+        int offset = offset(size);
+        buffer.putLong(offset + USER_OFFSET, userId);
+        buffer.putInt(offset + ROUTE_OFFSET, routeId);
+        buffer.putInt(offset + STATUS_OFFSET, status);
+        buffer.putLong(offset + EPOCH_OFFSET, epochMillis);
+        size++;
+    }
+
+    long epochMillis(int index) {
+        return buffer.getLong(offset(index) + EPOCH_OFFSET);
+    }
+
+    long userId(int index) {
+        return buffer.getLong(offset(index) + USER_OFFSET);
+    }
+
+    int routeId(int index) {
+        return buffer.getInt(offset(index) + ROUTE_OFFSET);
+    }
+
+    int status(int index) {
+        return buffer.getInt(offset(index) + STATUS_OFFSET);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getStartMillis() {
+        return startMillis;
+    }
+
+    int getSize() {
+        return size;
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.expert.trace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 트레이스를 OTLP JSON (ExportTraceServiceRequest) 한 줄로 파일에 기록한다.
+ * traces.jsonl 이 max-file-bytes 를 넘으면 traces-{epochMillis}.jsonl 로 교체하고
+ * max-files 개를 넘는 오래된 파일은 삭제한다. 기록은 별도 스레드에서 하며 큐가 가득 차면 버린다.
+ */
+@Slf4j
+@Component
+public class OtlpJsonFileExporter {
+
+    private static final String ACTIVE_FILE = "traces.jsonl";
+    private static final String ROTATED_PREFIX = "traces-";
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1000), runnable -> {
+                Thread thread = new Thread(runnable, "otlp-file-exporter");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+    private OutputStream output;
+    private long written;
+
+    public OtlpJsonFileExporter(
+            ObjectMapper objectMapper,
+            @Value("${trace.dir:traces}") Path directory,
+            @Value("${trace.max-file-bytes:10485760}") long maxFileBytes,
+            @Value("${trace.max-files:5}") int maxFiles
+    ) {
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+    }
+
+    public void export(Trace trace) {
+        executor.execute(() -> write(trace));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException, IOException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        if (output != null) {
+            output.close();
+        }
+    }
+
+    private void write(Trace trace) {
+        try {
+            byte[] line = objectMapper.writeValueAsBytes(toExportRequest(trace));
+            if (output == null) {
+                Files.createDirectories(directory);
+                Path active = directory.resolve(ACTIVE_FILE);
+                output = Files.newOutputStream(active, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                written = Files.size(active);
+            }
+            output.write(line);
+            output.write('\n');
+            output.flush();
+            written += line.length + 1;
+            if (written >= maxFileBytes) {
+                rotate();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to export trace {}", trace.getTraceId(), e);
+        }
+    }
+
+    private void rotate() throws IOException {
+        output.close();
+        output = null;
+        Files.move(directory.resolve(ACTIVE_FILE),
+                directory.resolve(ROTATED_PREFIX + System.currentTimeMillis() + ".jsonl"),
+                StandardCopyOption.REPLACE_EXISTING);
+
+        List<Path> rotated;
+        try (Stream<Path> files = Files.list(directory)) {
+            rotated = files.filter(path -> path.getFileName().toString().startsWith(ROTATED_PREFIX))
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        }
+        for (int i = 0; i < rotated.size() - maxFiles; i++) {
+            Files.deleteIfExists(rotated.get(i));
+        }
+    }
+
+    private Map<String, Object> toExportRequest(Trace trace) {
+        List<Map<String, Object>> spans = new ArrayList<>();
+        for (Span span : trace.getFinishedSpans()) {
+            Map<String, Object> otlpSpan = new LinkedHashMap<>();
+            otlpSpan.put("traceId", trace.getTraceId());
+            otlpSpan.put("spanId", span.getSpanId());
+            if (span.getParentSpanId() != null) {
+                otlpSpan.put("parentSpanId", span.getParentSpanId());
+            }
+            otlpSpan.put("name", span.getName());
+            otlpSpan.put("kind", span.getKind().getCode());
+            otlpSpan.put("startTimeUnixNano", String.valueOf(span.getStartEpochNanos()));
+            otlpSpan.put("endTimeUnixNano", String.valueOf(span.getEndEpochNanos()));
+            otlpSpan.put("attributes", attributes(span.getAttributes()));
+            // STATUS_CODE_OK = 1, STATUS_CODE_ERROR = 2
+            otlpSpan.put("status", Map.of("code", span.isError() ? 2 : 1));
+            spans.add(otlpSpan);
+        }
+
+        Map<String, Object> scopeSpans = Map.of(
+                "scope", Map.of("name", "org.example.expert.trace"),
+                "spans", spans
+        );
+        Map<String, Object> resourceSpans = Map.of(
+                "resource", Map.of("attributes", attributes(Map.of("service.name", "expert"))),
+                "scopeSpans", List.of(scopeSpans)
+        );
+        return Map.of("resourceSpans", List.of(resourceSpans));
+    }
+
+    private List<Map<String, Object>> attributes(Map<String, String> attributes) {
+        List<Map<String, Object>> otlpAttributes = new ArrayList<>();
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            otlpAttributes.add(Map.of("key", entry.getKey(), "value", Map.of("stringValue", entry.getValue())));
+        }
+        return otlpAttributes;
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.expert.trace;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+public class Span {
+
+    // 진행 중인 트레이스가 없을 때 반환되는 span. 모든 호출을 무시한다.
+    static final Span NOOP = new Span(null, null, null, null, SpanKind.INTERNAL, 0L);
+
+    private final Trace trace;
+    private final String spanId;
+    private final String parentSpanId;
+    private String name;
+    private final SpanKind kind;
+    private final long startEpochNanos;
+    private long endEpochNanos;
+    private boolean error;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+
+    Span(Trace trace, String spanId, String parentSpanId, String name, SpanKind kind, long startEpochNanos) {
+        this.trace = trace;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.startEpochNanos = startEpochNanos;
+    }
+
+    public Span attribute(String key, Object value) {
+        if (trace != null && value != null) {
+            attributes.put(key, value.toString());
+        }
+        return this;
+    }
+
+    public void updateName(String name) {
+        if (trace != null) {
+            this.name = name;
+        }
+    }
+
+    public void markError() {
+        this.error = true;
+    }
+
+    public void end() {
+        if (trace != null && endEpochNanos == 0L) {
+            endEpochNanos = trace.nowEpochNanos();
+            trace.finish(this);
+        }
+    }
+
+    public long getDurationNanos() {
+        return endEpochNanos - startEpochNanos;
+    }
+}
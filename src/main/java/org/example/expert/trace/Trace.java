@@ -0,0 +1,63 @@
+package org.example.expert.trace;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 하나의 span 들. 요청 스레드에서만 접근한다.
+ * span 은 maxSpans 개까지만 만들고, 넘치면 NOOP 을 돌려주며 버린 수만 센다.
+ */
+@Getter
+public class Trace {
+
+    private final String traceId;
+    private final boolean sampled;
+    private final int maxSpans;
+    private int droppedSpans;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final List<Span> finishedSpans = new ArrayList<>();
+    private final Deque<Span> openSpans = new ArrayDeque<>();
+
+    Trace(boolean sampled, int maxSpans) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        this.traceId = hex(random.nextLong()) + hex(random.nextLong());
+        this.sampled = sampled;
+        this.maxSpans = maxSpans;
+        Instant now = Instant.now();
+        this.startEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+        this.startNanoTime = System.nanoTime();
+    }
+
+    Span start(String name, SpanKind kind) {
+        if (finishedSpans.size() + openSpans.size() >= maxSpans) {
+            droppedSpans++;
+            return Span.NOOP;
+        }
+        Span parent = openSpans.peek();
+        Span span = new Span(this, hex(ThreadLocalRandom.current().nextLong()),
+                parent != null ? parent.getSpanId() : null, name, kind, nowEpochNanos());
+        openSpans.push(span);
+        return span;
+    }
+
+    void finish(Span span) {
+        openSpans.remove(span);
+        finishedSpans.add(span);
+    }
+
+    long nowEpochNanos() {
+        return startEpochNanos + (System.nanoTime() - startNanoTime);
+    }
+
+    private static String hex(long value) {
+        String hex = Long.toHexString(value);
+        return "0".repeat(16 - hex.length()) + hex;
+    }
+}
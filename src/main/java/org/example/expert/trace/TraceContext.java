@@ -0,0 +1,35 @@
+package org.example.expert.trace;
+
+/**
+ * 현재 요청 스레드의 트레이스. 트레이스가 없으면 span 을 만들지 않는다.
+ * <pre>
+ * Span span = TraceContext.startSpan("name", SpanKind.INTERNAL);
+ * try { ... } finally { span.end(); }
+ * </pre>
+ */
+public final class TraceContext {
+
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+    private TraceContext() {
+    }
+
+    public static Span startSpan(String name, SpanKind kind) {
+        Trace trace = CURRENT.get();
+        return trace != null ? trace.start(name, kind) : Span.NOOP;
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static Trace begin(boolean sampled, int maxSpans) {
+        Trace trace = new Trace(sampled, maxSpans);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.expert.trace;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 단위 트레이스의 시작과 종료, 내보낼지 여부를 결정한다.
+ * 샘플링되지 않은 요청도 span 은 모아두었다가 slow-threshold 를 넘거나 에러가 나면 내보낸다. (tail 기반 규칙)
+ * 내보낼지는 요청이 끝날 때 정하므로 SQL span 도 샘플링과 관계없이 만들고, 대신 요청마다 max-spans 개까지만 모은다.
+ */
+@Component
+public class Tracer {
+
+    private final OtlpJsonFileExporter exporter;
+    private final double sampleRatio;
+    private final long slowThresholdNanos;
+    private final int maxSpans;
+
+    public Tracer(
+            OtlpJsonFileExporter exporter,
+            @Value("${trace.sample-ratio:0.01}") double sampleRatio,
+            @Value("${trace.slow-threshold:500ms}") Duration slowThreshold,
+            @Value("${trace.max-spans:200}") int maxSpans
+    ) {
+        this.exporter = exporter;
+        this.sampleRatio = sampleRatio;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxSpans = maxSpans;
+    }
+
+    public Span beginRequest(String name) {
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < sampleRatio;
+        return TraceContext.begin(sampled, maxSpans).start(name, SpanKind.SERVER);
+    }
+
+    public void endRequest(Span root) {
+        try {
+            Trace trace = root.getTrace();
+            if (trace.getDroppedSpans() > 0) {
+                root.attribute("trace.dropped_spans", trace.getDroppedSpans());
+            }
+            root.end();
+            if (trace.isSampled() || root.isError() || root.getDurationNanos() >= slowThresholdNanos) {
+                exporter.export(trace);
+            }
+        } finally {
+            TraceContext.clear();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.trace;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+public class TracingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Span span = TraceContext.startSpan("HTTP " + request.getMethod(), SpanKind.CLIENT)
+                .attribute("http.request.method", request.getMethod())
+                .attribute("url.full", request.getURI());
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            span.attribute("http.response.status_code", response.getStatusCode().value());
+            if (response.getStatusCode().isError()) {
+                span.markError();
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            span.markError();
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.expert.trace;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 트레이스가 있는 요청에서 얻은 커넥션을 감싸 SQL 실행마다 span 을 만든다.
+ * 샘플링되지 않은 요청도 느리거나 실패하면 내보내지므로 감싼다. span 수는 Trace 가 제한한다.
+ * 트레이스가 없으면 원본 커넥션을 그대로 반환한다.
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    public TracingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trace(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trace(super.getConnection(username, password));
+    }
+
+    private Connection trace(Connection connection) {
+        if (!TraceContext.isActive()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = TracingDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+                return Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(),
+                        new Class<?>[]{method.getReturnType()}, new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return TracingDataSource.invoke(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : preparedSql;
+            Span span = TraceContext.startSpan("SQL " + operation(sql), SpanKind.CLIENT)
+                    .attribute("db.statement", sql)
+                    .attribute("db.operation", method.getName());
+            try {
+                return TracingDataSource.invoke(target, method, args);
+            } catch (Throwable e) {
+                span.markError();
+                throw e;
+            } finally {
+                span.end();
+            }
+        }
+
+        private String operation(String sql) {
+            if (sql == null) {
+                return "BATCH";
+            }
+            String trimmed = sql.stripLeading();
+            int space = trimmed.indexOf(' ');
+            return (space > 0 ? trimmed.substring(0, space) : trimmed).toUpperCase();
+        }
+    }
+}
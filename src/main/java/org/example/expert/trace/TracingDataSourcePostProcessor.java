@@ -0,0 +1,40 @@
+package org.example.expert.trace;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션이 주입받는 DataSource 하나만 감싼다.
+ * DataSource 빈이 여러 개면(primary/replica 라우팅) 라우팅 대상까지 감싸면 SQL 하나에 span 이 여러 개 생기므로
+ * {@code @Primary} 빈만 감싼다.
+ */
+@Component
+public class TracingDataSourcePostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource) && isOutermost(beanName)) {
+            return new TracingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    private boolean isOutermost(String beanName) {
+        if (beanFactory.getBeanNamesForType(DataSource.class, true, false).length <= 1) {
+            return true;
+        }
+        return beanFactory.containsBeanDefinition(beanName) && beanFactory.getBeanDefinition(beanName).isPrimary();
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.expert.config;
+
+import org.example.expert.annotation.AccessRecord;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.journal.AccessJournal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@ExtendWith(MockitoExtension.class)
+class AccessRecordInterceptorTest {
+
+    @Mock
+    private AccessJournal accessJournal;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TestController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addInterceptors(new AccessRecordInterceptor(accessJournal))
+                .build();
+    }
+
+    @Test
+    void 반환한_응답의_상태를_기록한다() throws Exception {
+        // given
+        given(accessJournal.routeId(anyString())).willReturn(1);
+
+        // when
+        mockMvc.perform(get("/created").requestAttr("userId", 7L));
+
+        // then
+        verify(accessJournal).append(eq(7L), anyLong(), eq(1), eq(201));
+    }
+
+    @Test
+    void 예외는_예외_핸들러가_만든_응답의_상태로_기록한다() throws Exception {
+        // given
+        given(accessJournal.routeId(anyString())).willReturn(1);
+
+        // when
+        mockMvc.perform(get("/invalid"));
+        mockMvc.perform(get("/busy"));
+
+        // then
+        verify(accessJournal).append(eq(0L), anyLong(), eq(1), eq(400));
+        verify(accessJournal).append(eq(0L), anyLong(), eq(1), eq(503));
+    }
+
+    @Test
+    void AccessRecord_가_없는_핸들러는_기록하지_않는다() throws Exception {
+        // when
+        mockMvc.perform(get("/plain"));
+
+        // then
+        verify(accessJournal, never()).append(anyLong(), anyLong(), anyInt(), anyInt());
+    }
+
+    @RestController
+    static class TestController {
+
+        @AccessRecord
+        @GetMapping("/created")
+        public ResponseEntity<Void> created() {
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        }
+
+        @AccessRecord
+        @GetMapping("/invalid")
+        public void invalid() {
+            throw new InvalidRequestException("invalid");
+        }
+
+        @AccessRecord
+        @GetMapping("/busy")
+        public void busy() {
+            throw new ServiceUnavailableException("busy", Duration.ofSeconds(5));
+        }
+
+        @GetMapping("/plain")
+        public void plain() {
+        }
+    }
+}
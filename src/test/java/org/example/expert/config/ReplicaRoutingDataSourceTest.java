@@ -0,0 +1,76 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final PrimaryStickiness stickiness = new PrimaryStickiness(Duration.ofSeconds(5), clock::get);
+    private final ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(stickiness);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        PrimaryStickiness.bind(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        PrimaryStickiness.clear();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica_쓰기는_primary_로_간다() {
+        // when & then
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReplicaRoutingDataSource.REPLICA, dataSource.determineCurrentLookupKey());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void 쓰기를_커밋한_유저는_정해진_시간_동안_읽기도_primary_로_간다() {
+        // given: 쓰기 트랜잭션이 커밋된다
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        dataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+
+        // 다른 유저는 영향이 없다
+        PrimaryStickiness.bind(2L);
+        assertEquals(ReplicaRoutingDataSource.REPLICA, dataSource.determineCurrentLookupKey());
+
+        PrimaryStickiness.bind(1L);
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertEquals(ReplicaRoutingDataSource.REPLICA, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void 롤백된_쓰기는_유저를_primary_에_묶지_않는다() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        dataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // when & then
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReplicaRoutingDataSource.REPLICA, dataSource.determineCurrentLookupKey());
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceAccountingFilterTest {
+
+    @Test
+    void 라우트별로_할당_바이트와_CPU_시간을_집계한다() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResourceAccountingFilter filter = new ResourceAccountingFilter(meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/todos");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        DistributionSummary allocated = meterRegistry.find("http.server.requests.allocated")
+                .tag("uri", "/todos").tag("method", "GET").summary();
+        Timer cpu = meterRegistry.find("http.server.requests.cpu")
+                .tag("uri", "/todos").tag("method", "GET").timer();
+        assertNotNull(allocated);
+        assertNotNull(cpu);
+        assertEquals(2, allocated.count());
+        assertEquals(2, cpu.count());
+    }
+
+    @Test
+    void 매핑되지_않은_요청은_UNMATCHED_로_집계한다() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResourceAccountingFilter filter = new ResourceAccountingFilter(meterRegistry);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/unknown"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertNotNull(meterRegistry.find("http.server.requests.allocated").tag("uri", "UNMATCHED").summary());
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.expert.domain.accessrecord.service;
+
+import org.example.expert.domain.accessrecord.dto.response.AccessRecordPageResponse;
+import org.example.expert.domain.accessrecord.dto.response.AccessRecordUserCountResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.journal.AccessJournal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessRecordAdminServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    private AccessJournal accessJournal;
+    private AccessRecordAdminService accessRecordAdminService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        accessJournal = new AccessJournal(directory, 1024 * 1024, Duration.ofDays(1));
+        accessJournal.open();
+        accessRecordAdminService = new AccessRecordAdminService(accessJournal);
+
+        int roleChange = accessJournal.routeId("PATCH /admin/users/{userId}");
+        int commentDelete = accessJournal.routeId("DELETE /admin/comments/{commentId}");
+        append(1L, 0, roleChange);
+        append(2L, 1, commentDelete);
+        append(1L, 2, roleChange);
+        append(1L, 3, commentDelete);
+        append(3L, 4, roleChange);
+    }
+
+    @Test
+    void 라우트로_필터링하고_커서로_다음_페이지를_조회한다() {
+        // when
+        AccessRecordPageResponse first = accessRecordAdminService.getAccessRecords(
+                null, "PATCH /admin/users/{userId}", BASE, BASE.plusHours(1), null, 2);
+        AccessRecordPageResponse second = accessRecordAdminService.getAccessRecords(
+                null, "PATCH /admin/users/{userId}", BASE, BASE.plusHours(1), first.getNextCursor(), 2);
+
+        // then
+        assertEquals(2, first.getRecords().size());
+        assertNotNull(first.getNextCursor());
+        assertEquals(1, second.getRecords().size());
+        assertEquals(3L, second.getRecords().get(0).getUserId());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void 등록되지_않은_라우트는_빈_결과를_반환한다() {
+        // when
+        AccessRecordPageResponse response = accessRecordAdminService.getAccessRecords(
+                null, "GET /admin/unknown", BASE, BASE.plusHours(1), null, 10);
+
+        // then
+        assertTrue(response.getRecords().isEmpty());
+    }
+
+    @Test
+    void 잘못된_커서는_예외가_발생한다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                accessRecordAdminService.getAccessRecords(null, null, BASE, BASE.plusHours(1), "abc", 10));
+        assertEquals("잘못된 커서입니다.", exception.getMessage());
+    }
+
+    @Test
+    void 요청이_많은_유저_순으로_조회한다() {
+        // when
+        List<AccessRecordUserCountResponse> topUsers = accessRecordAdminService.getTopUsers(
+                null, BASE, BASE.plusHours(1), 2);
+
+        // then
+        assertEquals(2, topUsers.size());
+        assertEquals(1L, topUsers.get(0).getUserId());
+        assertEquals(3L, topUsers.get(0).getCount());
+    }
+
+    @Test
+    void 범위를_벗어난_limit_은_예외가_발생한다() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () ->
+                accessRecordAdminService.getTopUsers(null, BASE, BASE.plusHours(1), 0));
+        assertThrows(InvalidRequestException.class, () ->
+                accessRecordAdminService.getTopUsers(null, BASE, BASE.plusHours(1), 101));
+    }
+
+    @Test
+    void from_이_to_보다_늦으면_예외가_발생한다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                accessRecordAdminService.getTopUsers(null, BASE.plusHours(1), BASE, 10));
+        assertEquals("from 은 to 보다 늦을 수 없습니다.", exception.getMessage());
+    }
+
+    private void append(long userId, int minutes, int routeId) {
+        long epochMillis = BASE.plusMinutes(minutes).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        accessJournal.append(userId, epochMillis, routeId, 200);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.expert.domain.archive.service;
+
+import org.example.expert.domain.archive.event.TodosArchivedEvent;
+import org.example.expert.domain.archive.repository.ArchivedCommentRepository;
+import org.example.expert.domain.archive.repository.ArchivedManagerRepository;
+import org.example.expert.domain.archive.repository.ArchivedTodoRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoArchiveJobTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private ArchivedTodoRepository archivedTodoRepository;
+    @Mock
+    private ArchivedCommentRepository archivedCommentRepository;
+    @Mock
+    private ArchivedManagerRepository archivedManagerRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TodoArchiveJob todoArchiveJob;
+
+    @BeforeEach
+    void setUp() {
+        todoArchiveJob = new TodoArchiveJob(
+                todoRepository, commentRepository, managerRepository,
+                archivedTodoRepository, archivedCommentRepository, archivedManagerRepository,
+                eventPublisher, transactionManager, 30, 2
+        );
+    }
+
+    @Test
+    void 대상이_없어질_때까지_chunk_마다_복사한_뒤_원본을_지운다() {
+        // given
+        given(todoRepository.lockIdsInactiveBefore(any(LocalDateTime.class), eq(2)))
+                .willReturn(List.of(1L, 2L), List.of(3L), List.of());
+
+        // when
+        todoArchiveJob.archive();
+
+        // then
+        InOrder inOrder = inOrder(archivedTodoRepository, archivedCommentRepository, archivedManagerRepository,
+                commentRepository, managerRepository, todoRepository, eventPublisher);
+        inOrder.verify(archivedTodoRepository).copyFromTodos(eq(List.of(1L, 2L)), any());
+        inOrder.verify(archivedCommentRepository).copyFromComments(List.of(1L, 2L));
+        inOrder.verify(archivedManagerRepository).copyFromManagers(List.of(1L, 2L));
+        inOrder.verify(commentRepository).deleteAllByTodoIdIn(List.of(1L, 2L));
+        inOrder.verify(managerRepository).deleteAllByTodoIdIn(List.of(1L, 2L));
+        inOrder.verify(todoRepository).deleteAllByIdIn(List.of(1L, 2L));
+        inOrder.verify(eventPublisher).publishEvent(any(TodosArchivedEvent.class));
+        verify(todoRepository).deleteAllByIdIn(List.of(3L));
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void chunk_가_실패하면_그_chunk_를_롤백하고_멈춘다() {
+        // given
+        given(todoRepository.lockIdsInactiveBefore(any(LocalDateTime.class), eq(2))).willReturn(List.of(1L, 2L));
+        willThrow(new IllegalStateException("boom")).given(archivedCommentRepository).copyFromComments(List.of(1L, 2L));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> todoArchiveJob.archive());
+        verify(transactionManager).rollback(any());
+        verify(todoRepository, never()).deleteAllByIdIn(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
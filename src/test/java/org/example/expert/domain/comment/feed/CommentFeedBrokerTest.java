@@ -0,0 +1,74 @@
+package org.example.expert.domain.comment.feed;
+
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentFeedBrokerTest {
+
+    private final CommentFeedBroker broker = new CommentFeedBroker(2, Duration.ofMinutes(1), 2, 1);
+
+    @AfterEach
+    void tearDown() {
+        broker.close();
+    }
+
+    @Test
+    void 버퍼가_가득_찬_구독자는_끊는다() {
+        // given
+        CommentFeedSubscriber slow = broker.register(1L);
+        CommentFeedSubscriber other = broker.register(2L);
+
+        // when: replay 전이라 전송하지 않으므로 큐에 쌓인다
+        broker.onCommentSaved(new CommentSavedEvent(1L, 1L, "a", 1L, "a@a.com", 0L));
+        broker.onCommentSaved(new CommentSavedEvent(1L, 2L, "b", 1L, "a@a.com", 0L));
+        broker.onCommentSaved(new CommentSavedEvent(1L, 3L, "c", 1L, "a@a.com", 0L));
+
+        // then
+        assertTrue(slow.getClosed().get());
+        assertFalse(other.getClosed().get());
+        assertEquals(1, broker.getSubscriberCount());
+    }
+
+    @Test
+    void 다른_일정의_댓글은_받지_않는다() {
+        // given
+        CommentFeedSubscriber subscriber = broker.register(1L);
+
+        // when
+        broker.onCommentSaved(new CommentSavedEvent(2L, 1L, "a", 1L, "a@a.com", 0L));
+
+        // then
+        assertTrue(subscriber.getQueue().isEmpty());
+    }
+
+    @Test
+    void 최대_구독자_수를_넘으면_등록하지_않는다() {
+        broker.register(1L);
+        broker.register(1L);
+
+        assertNull(broker.register(1L));
+        assertEquals(2, broker.getSubscriberCount());
+    }
+
+    @Test
+    void id_가_더_작은_댓글이_늦게_커밋되어도_중복으로_거르지_않는다() {
+        // given
+        CommentFeedSubscriber subscriber = broker.register(1L);
+        subscriber.markSent(5L);
+
+        // when & then
+        assertFalse(subscriber.isSent(3L));
+        subscriber.markSent(3L);
+        assertTrue(subscriber.isSent(5L));
+        assertTrue(subscriber.isSent(3L));
+
+        // 큐 크기(2)를 넘으면 오래된 id 부터 잊는다
+        subscriber.markSent(4L);
+        assertFalse(subscriber.isSent(5L));
+    }
+}
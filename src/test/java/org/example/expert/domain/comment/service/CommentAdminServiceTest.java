@@ -1,6 +1,7 @@
 package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -19,6 +20,8 @@ class CommentAdminServiceTest {
 
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private TodoRepository todoRepository;
 
     @InjectMocks
     private CommentAdminService adminService;
@@ -28,14 +31,31 @@ class CommentAdminServiceTest {
 
 
         // given
+        long commentId = 1L;
+        long todoId = 10L;
+        given(commentRepository.findTodoIdById(commentId)).willReturn(Optional.of(todoId));
         doNothing().when(commentRepository).deleteById(anyLong());
 
         // when
-        adminService.deleteComment(anyLong());
+        adminService.deleteComment(commentId);
         // then
-        verify(commentRepository, times(1)).deleteById(anyLong());
+        verify(commentRepository, times(1)).deleteById(commentId);
+        verify(todoRepository, times(1)).addCommentCount(todoId, -1);
+
+    }
 
+    @Test
+    void 없는_댓글은_삭제하지_않고_카운트도_바꾸지_않는다() {
+        // given
+        given(commentRepository.findTodoIdById(anyLong())).willReturn(Optional.empty());
+
+        // when
+        adminService.deleteComment(1L);
+
+        // then
+        verify(commentRepository, never()).deleteById(anyLong());
+        verify(todoRepository, never()).addCommentCount(anyLong(), anyLong());
     }
 
 
-}
\ No newline at end of file
+}
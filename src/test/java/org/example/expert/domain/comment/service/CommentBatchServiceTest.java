@@ -0,0 +1,109 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.request.CommentAdminBatchSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentBatchItemRequest;
+import org.example.expert.domain.comment.dto.request.CommentBatchSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentBatchItemResult;
+import org.example.expert.domain.comment.dto.response.CommentBatchSaveResponse;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentBatchServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    private CommentBatchService commentBatchService;
+
+    @BeforeEach
+    void setUp() {
+        commentBatchService = new CommentBatchService(jdbcTemplate, todoRepository, userRepository, 2);
+    }
+
+    @Test
+    void 한_일정에_댓글을_일괄_등록하고_빈_내용은_거절한다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        CommentBatchSaveRequest request = new CommentBatchSaveRequest(List.of(
+                new CommentSaveRequest("a"),
+                new CommentSaveRequest(" "),
+                new CommentSaveRequest("b")
+        ));
+        given(todoRepository.lockExistingIds(List.of(todoId))).willReturn(List.of(todoId));
+
+        // when
+        CommentBatchSaveResponse response = commentBatchService.saveComments(authUser, todoId, request);
+
+        // then
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getInserted());
+        assertEquals(1, response.getRejected());
+        assertEquals(CommentBatchItemResult.REJECTED, response.getResults().get(1).getStatus());
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<CommentBatchItemRequest> rows) -> rows.size() == 2),
+                eq(2), any(ParameterizedPreparedStatementSetter.class));
+        verify(todoRepository).addCommentCount(todoId, 2L);
+    }
+
+    @Test
+    void 일정이_없으면_일괄_등록에_실패한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        CommentBatchSaveRequest request = new CommentBatchSaveRequest(List.of(new CommentSaveRequest("a")));
+        given(todoRepository.lockExistingIds(anyCollection())).willReturn(List.of());
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentBatchService.saveComments(authUser, 1L, request));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void 관리자_일괄_등록은_존재하지_않는_일정과_유저를_항목별로_거절한다() {
+        // given
+        CommentAdminBatchSaveRequest request = new CommentAdminBatchSaveRequest(List.of(
+                new CommentBatchItemRequest(1L, 1L, "a"),
+                new CommentBatchItemRequest(2L, 1L, "b"),
+                new CommentBatchItemRequest(1L, 9L, "c"),
+                new CommentBatchItemRequest(1L, 1L, "d")
+        ));
+        given(todoRepository.lockExistingIds(anyCollection())).willReturn(List.of(1L));
+        given(userRepository.findExistingIds(anyCollection())).willReturn(List.of(1L));
+
+        // when
+        CommentBatchSaveResponse response = commentBatchService.saveCommentsAcrossTodos(request);
+
+        // then
+        assertEquals(2, response.getInserted());
+        assertEquals("Todo not found", response.getResults().get(1).getMessage());
+        assertEquals("User not found", response.getResults().get(2).getMessage());
+        verify(todoRepository).addCommentCount(1L, 2L);
+        verify(todoRepository, never()).addCommentCount(eq(2L), anyLong());
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.projection.CommentIdRow;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentBulkDeleteServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CommentBulkDeleteService commentBulkDeleteService;
+
+    @BeforeEach
+    void setUp() {
+        commentBulkDeleteService = new CommentBulkDeleteService(commentRepository, todoRepository, transactionManager, 2);
+    }
+
+    @Test
+    void 유저의_댓글을_chunk_단위로_삭제하고_일정별_카운트를_줄인다() {
+        // given
+        long userId = 1L;
+        given(commentRepository.findIdRowsByUserId(eq(userId), eq(0L), any()))
+                .willReturn(List.of(new CommentIdRow(1L, 10L), new CommentIdRow(2L, 20L)));
+        given(commentRepository.findIdRowsByUserId(eq(userId), eq(2L), any()))
+                .willReturn(List.of(new CommentIdRow(5L, 10L)));
+        given(commentRepository.deleteAllByIdIn(List.of(1L, 2L))).willReturn(2);
+        given(commentRepository.deleteAllByIdIn(List.of(5L))).willReturn(1);
+
+        // when
+        CommentBulkDeleteResponse response = commentBulkDeleteService.deleteByUser(userId);
+
+        // then
+        assertEquals(3, response.getDeleted());
+        assertEquals(2, response.getChunks());
+        verify(todoRepository, times(2)).addCommentCount(10L, -1L);
+        verify(todoRepository).addCommentCount(20L, -1L);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void 삭제할_댓글이_없으면_DELETE_를_실행하지_않는다() {
+        // given
+        given(commentRepository.findIdRowsByTodoId(anyLong(), anyLong(), any())).willReturn(List.of());
+
+        // when
+        CommentBulkDeleteResponse response = commentBulkDeleteService.deleteByTodo(1L);
+
+        // then
+        assertEquals(0, response.getDeleted());
+        verify(commentRepository, never()).deleteAllByIdIn(anyCollection());
+    }
+
+    @Test
+    void id_목록으로_삭제할_때_중복을_제거하고_chunk_로_나눈다() {
+        // given
+        given(commentRepository.findIdRowsByIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(new CommentIdRow(1L, 10L), new CommentIdRow(2L, 10L)));
+        given(commentRepository.findIdRowsByIdIn(List.of(3L))).willReturn(List.of());
+        given(commentRepository.deleteAllByIdIn(List.of(1L, 2L))).willReturn(2);
+
+        // when
+        CommentBulkDeleteResponse response = commentBulkDeleteService.deleteByIds(List.of(1L, 2L, 2L, 3L));
+
+        // then
+        assertEquals(2, response.getDeleted());
+        assertEquals(2, response.getChunks());
+        verify(todoRepository).addCommentCount(10L, -2L);
+    }
+
+    @Test
+    void id_가_너무_많으면_에러가_발생한다() {
+        List<Long> ids = LongStream.rangeClosed(1, 10_001).boxed().toList();
+
+        assertThrows(InvalidRequestException.class, () -> commentBulkDeleteService.deleteByIds(ids));
+    }
+}
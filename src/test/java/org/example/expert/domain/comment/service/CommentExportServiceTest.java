@@ -0,0 +1,93 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.comment.dto.projection.CommentExportRow;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CommentExportServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private CommentRepository commentRepository;
+
+    private CommentExportService commentExportService;
+
+    @BeforeEach
+    void setUp() {
+        commentExportService = new CommentExportService(todoRepository, commentRepository, new ObjectMapper());
+    }
+
+    @Test
+    void 댓글을_NDJSON_으로_쓰고_스트림을_닫는다() throws Exception {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        given(commentRepository.streamByTodoId(1L)).willReturn(Stream.of(
+                new CommentExportRow(1L, "a", 10L, "a@a.com"),
+                new CommentExportRow(2L, "b", 11L, "b@b.com")
+        ).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        commentExportService.export(1L, CommentExportService.FORMAT_NDJSON, out);
+
+        // then
+        assertEquals(
+                "{\"id\":1,\"contents\":\"a\",\"user\":{\"id\":10,\"email\":\"a@a.com\"}}\n" +
+                        "{\"id\":2,\"contents\":\"b\",\"user\":{\"id\":11,\"email\":\"b@b.com\"}}\n",
+                out.toString(StandardCharsets.UTF_8)
+        );
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void 댓글을_JSON_배열로_쓴다() throws Exception {
+        // given
+        given(commentRepository.streamByTodoId(1L)).willReturn(Stream.of(
+                new CommentExportRow(1L, "a", 10L, "a@a.com")
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        commentExportService.export(1L, CommentExportService.FORMAT_JSON, out);
+
+        // then
+        assertEquals("[{\"id\":1,\"contents\":\"a\",\"user\":{\"id\":10,\"email\":\"a@a.com\"}}]",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void 지원하지_않는_형식이면_에러가_발생한다() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentExportService.validate(1L, "csv"));
+
+        assertEquals("format 은 ndjson 또는 json 이어야 합니다.", exception.getMessage());
+    }
+
+    @Test
+    void 일정이_없으면_내보내기에_실패한다() {
+        given(todoRepository.existsById(anyLong())).willReturn(false);
+
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentExportService.validate(1L, CommentExportService.FORMAT_JSON));
+
+        assertEquals("Todo not found", exception.getMessage());
+    }
+}
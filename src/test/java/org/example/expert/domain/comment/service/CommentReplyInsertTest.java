@@ -0,0 +1,70 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CommentService.class, PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentReplyInsertTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 답글은_경로를_채운_채로_INSERT_한_번에_저장된다() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        User user = userRepository.save(new User("reply@example.com", "password", UserRole.USER));
+        Todo todo = transaction.execute(status -> todoRepository.save(new Todo("title", "contents", "Sunny", user)));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+        CommentSaveResponse parent = commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("parent"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        CommentSaveResponse reply = commentService.saveReply(authUser, todo.getId(), parent.getId(), new CommentSaveRequest("reply"));
+
+        // then
+        EntityStatistics comments = statistics.getEntityStatistics(Comment.class.getName());
+        assertEquals(1, comments.getInsertCount());
+        assertEquals(0, comments.getUpdateCount());
+        Comment saved = commentRepository.findById(reply.getId()).orElseThrow();
+        assertEquals(Comment.pathSegment(parent.getId()) + Comment.pathSegment(reply.getId()), saved.getPath());
+        assertEquals(0L, saved.getVersion());
+    }
+}
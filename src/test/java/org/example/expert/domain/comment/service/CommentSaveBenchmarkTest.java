@@ -0,0 +1,133 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 댓글 저장 시 일정을 로딩하던 방식과 참조만 쓰는 방식의 SQL 수, 엔티티 로딩 수, 할당량 비교.
+ * 기본 test 에서는 제외된다. {@code ./gradlew benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(CommentService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentSaveBenchmarkTest {
+
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 5_000;
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 참조만_쓰는_댓글_저장은_일정을_로딩하지_않는다() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        User user = userRepository.save(new User("bench@example.com", "password", UserRole.USER));
+        Todo todo = transaction.execute(status -> todoRepository.save(new Todo("title", "contents", "Sunny", user)));
+        long todoId = todo.getId();
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+        CommentSaveRequest request = new CommentSaveRequest("contents");
+
+        // 이전 구현: findById 로 일정을 읽어 FK 로 쓴다
+        Runnable loading = () -> transaction.executeWithoutResult(status -> {
+            Todo loaded = todoRepository.findById(todoId).orElseThrow();
+            commentRepository.save(new Comment(request.getContents(), User.fromAuthUser(authUser), loaded));
+            todoRepository.addCommentCount(todoId, 1);
+        });
+        Runnable reference = () -> commentService.saveComment(authUser, todoId, request);
+
+        // when
+        Measurement before = measure(loading);
+        Measurement after = measure(reference);
+
+        // then
+        System.out.printf("findById  : %.2f statements, %.2f entity loads, %,d bytes per comment%n",
+                before.statementsPerOp(), before.entityLoadsPerOp(), before.bytesPerOp());
+        System.out.printf("reference : %.2f statements, %.2f entity loads, %,d bytes per comment%n",
+                after.statementsPerOp(), after.entityLoadsPerOp(), after.bytesPerOp());
+        assertEquals(1.0, before.entityLoadsPerOp());
+        assertEquals(0.0, after.entityLoadsPerOp());
+        assertTrue(after.statementsPerOp() <= before.statementsPerOp());
+    }
+
+    private Measurement measure(Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Measurement(
+                (double) statistics.getPrepareStatementCount() / ITERATIONS,
+                (double) statistics.getEntityLoadCount() / ITERATIONS,
+                allocated / ITERATIONS
+        );
+    }
+
+    private static final class Measurement {
+
+        private final double statementsPerOp;
+        private final double entityLoadsPerOp;
+        private final long bytesPerOp;
+
+        private Measurement(double statementsPerOp, double entityLoadsPerOp, long bytesPerOp) {
+            this.statementsPerOp = statementsPerOp;
+            this.entityLoadsPerOp = entityLoadsPerOp;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        double statementsPerOp() {
+            return statementsPerOp;
+        }
+
+        double entityLoadsPerOp() {
+            return entityLoadsPerOp;
+        }
+
+        long bytesPerOp() {
+            return bytesPerOp;
+        }
+    }
+}
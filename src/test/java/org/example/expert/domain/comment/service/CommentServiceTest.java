@@ -1,9 +1,12 @@
 package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentPageResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentThreadResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
@@ -15,11 +18,17 @@ import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +44,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
 //    @Spy
     private CommentService commentService;
@@ -49,7 +60,7 @@ class CommentServiceTest {
             CommentSaveRequest request = new CommentSaveRequest("contents");
             AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-            given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+            given(todoRepository.addCommentCount(anyLong(), anyLong())).willReturn(0);
 
             // when
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -70,7 +81,8 @@ class CommentServiceTest {
             Todo todo = new Todo("title", "title", "contents", user);
             Comment comment = new Comment(request.getContents(), user, todo);
 
-            given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+            given(todoRepository.addCommentCount(anyLong(), anyLong())).willReturn(1);
+            given(todoRepository.getReferenceById(anyLong())).willReturn(todo);
             given(commentRepository.save(any())).willReturn(comment);
 
             // when
@@ -78,6 +90,36 @@ class CommentServiceTest {
 
             // then
             assertNotNull(result);
+            verify(todoRepository, times(1)).addCommentCount(todoId, 1);
+            verify(eventPublisher, times(1)).publishEvent(any(CommentSavedEvent.class));
+        }
+
+        @Test
+        public void 답글_저장_이벤트는_저장된_버전을_담는다() {
+            // given
+            long todoId = 1L;
+            CommentSaveRequest request = new CommentSaveRequest("reply");
+            AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+            User user = User.fromAuthUser(authUser);
+            Todo todo = new Todo("title", "title", "contents", user);
+            ReflectionTestUtils.setField(todo, "id", todoId);
+            Comment parent = new Comment("parent", user, todo);
+            ReflectionTestUtils.setField(parent, "id", 10L);
+            Comment reply = new Comment(request.getContents(), user, todo, parent);
+            ReflectionTestUtils.setField(reply, "id", 11L);
+            ReflectionTestUtils.setField(reply, "version", 3L);
+
+            given(commentRepository.findById(10L)).willReturn(Optional.of(parent));
+            given(todoRepository.addCommentCount(todoId, 1)).willReturn(1);
+            given(commentRepository.save(any())).willReturn(reply);
+
+            // when
+            commentService.saveReply(authUser, todoId, 10L, request);
+
+            // then
+            ArgumentCaptor<CommentSavedEvent> captor = ArgumentCaptor.forClass(CommentSavedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertEquals(3L, captor.getValue().getVersion());
         }
 
     }
@@ -94,23 +136,134 @@ class CommentServiceTest {
             Todo todo = new Todo("title", "contents", "weather", user);
             Comment mockComment1 = new Comment("asd", user, todo);
             Comment mockComment2 = new Comment("asd", user, todo);
+            ReflectionTestUtils.setField(mockComment1, "id", 1L);
+            ReflectionTestUtils.setField(mockComment2, "id", 2L);
 
             List<Comment> mockCommentList = Arrays.asList(mockComment1, mockComment2);
 
             // 리포지토리의 가짜 행동 설정
-            when(commentRepository.findByTodoIdWithUser(todoId)).thenReturn(mockCommentList);
+            when(commentRepository.findByTodoIdAfterWithUser(eq(todoId), eq(0L), any(Pageable.class))).thenReturn(mockCommentList);
 
             // 메소드 실행
-            List<CommentResponse> commentResponseList = commentService.getComments(todoId);
+            CommentPageResponse response = commentService.getComments(todoId, null, 20, false);
 
             // 결과 확인
-            assertNotNull(commentResponseList);
+            List<CommentResponse> commentResponseList = response.getComments();
             assertEquals(2, commentResponseList.size()); // 두 개의 댓글을 반환했는지 확인
             assertEquals("asd", commentResponseList.get(0).getContents()); // 첫 댓글 내용 확인
             assertEquals("alden200@naver.com", commentResponseList.get(0).getUser().getEmail()); // 첫 댓글 유저 이메일 확인
+            assertNull(response.getNextCursor()); // 다음 페이지 없음
+
+            // 커서 이후 댓글을 size + 1 개 조회했는지 검증
+            verify(commentRepository, times(1)).findByTodoIdAfterWithUser(todoId, 0L, PageRequest.of(0, 21));
+        }
+
+        @Test
+        public void 조회_결과가_size_보다_많으면_다음_커서를_반환한다() {
+            // given
+            long todoId = 1L;
+            User user = new User("alden200@naver.com", "1234", UserRole.USER);
+            Todo todo = new Todo("title", "contents", "weather", user);
+            Comment newest = new Comment("newest", user, todo);
+            Comment middle = new Comment("middle", user, todo);
+            Comment oldest = new Comment("oldest", user, todo);
+            ReflectionTestUtils.setField(newest, "id", 30L);
+            ReflectionTestUtils.setField(middle, "id", 20L);
+            ReflectionTestUtils.setField(oldest, "id", 10L);
+
+            given(commentRepository.findByTodoIdBeforeWithUser(eq(todoId), eq(40L), any(Pageable.class)))
+                    .willReturn(new ArrayList<>(List.of(newest, middle, oldest)));
+
+            // when
+            CommentPageResponse response = commentService.getComments(todoId, 40L, 2, true);
+
+            // then
+            assertEquals(2, response.getComments().size());
+            assertEquals("newest", response.getComments().get(0).getContents());
+            assertEquals(20L, response.getNextCursor());
+        }
+
+        @Test
+        public void size_가_최대값을_넘으면_에러가_발생한다() {
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    commentService.getComments(1L, null, 101, false));
+
+            // then
+            assertEquals("size 는 1 이상 100 이하여야 합니다.", exception.getMessage());
+        }
+    }
 
-            // commentRepository의 findByTodoIdWithUser가 호출되었는지 검증
-            verify(commentRepository, times(1)).findByTodoIdWithUser(todoId);
+    @Nested
+    class threadTest {
+
+        private Comment comment(long id, Comment parent, Todo todo, User user) {
+            Comment comment = parent == null ? new Comment("c" + id, user, todo) : new Comment("c" + id, user, todo, parent);
+            ReflectionTestUtils.setField(comment, "id", id);
+            comment.onIdGenerated(id);
+            return comment;
+        }
+
+        @Test
+        public void 답글은_부모_경로_뒤에_자신의_id_를_붙인다() {
+            // given
+            User user = new User("a@a.com", "1234", UserRole.USER);
+            Todo todo = new Todo("title", "contents", "weather", user);
+            Comment root = comment(1L, null, todo, user);
+
+            // when
+            Comment reply = comment(40L, root, todo, user);
+
+            // then
+            assertEquals("0000000000001" + "0000000000014", reply.getPath());
+            assertEquals(1, reply.getDepth());
+            assertEquals(1L, reply.getParentId());
+        }
+
+        @Test
+        public void 하위_답글을_한_번에_읽어_트리로_조립한다() {
+            // given
+            long todoId = 1L;
+            User user = new User("a@a.com", "1234", UserRole.USER);
+            Todo todo = new Todo("title", "contents", "weather", user);
+            ReflectionTestUtils.setField(todo, "id", todoId);
+            Comment root = comment(1L, null, todo, user);
+            Comment child1 = comment(2L, root, todo, user);
+            Comment grandChild = comment(4L, child1, todo, user);
+            Comment child2 = comment(3L, root, todo, user);
+
+            given(commentRepository.findByIdWithUser(1L)).willReturn(Optional.of(root));
+            given(commentRepository.findSubtreeWithUser(eq(todoId), eq("0000000000001%"), eq(0), eq(15), any(Pageable.class)))
+                    .willReturn(List.of(child1, grandChild, child2));
+
+            // when
+            CommentThreadResponse response = commentService.getThread(todoId, 1L, 15);
+
+            // then
+            assertEquals(4, response.getSize());
+            assertFalse(response.isTruncated());
+            assertEquals(2, response.getThread().getReplies().size());
+            assertEquals(4L, response.getThread().getReplies().get(0).getReplies().get(0).getId());
+        }
+
+        @Test
+        public void 최대_깊이의_댓글에는_답글을_달_수_없다() {
+            // given
+            User user = new User("a@a.com", "1234", UserRole.USER);
+            Todo todo = new Todo("title", "contents", "weather", user);
+            ReflectionTestUtils.setField(todo, "id", 1L);
+            Comment deepest = comment(1L, null, todo, user);
+            ReflectionTestUtils.setField(deepest, "depth", Comment.MAX_DEPTH);
+            given(commentRepository.findById(1L)).willReturn(Optional.of(deepest));
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    commentService.saveReply(authUser, 1L, 1L, new CommentSaveRequest("reply")));
+
+            // then
+            assertEquals("답글은 15단계까지만 달 수 있습니다.", exception.getMessage());
+            verify(commentRepository, never()).save(any());
         }
     }
 }
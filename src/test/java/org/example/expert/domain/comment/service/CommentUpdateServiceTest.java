@@ -0,0 +1,109 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.request.CommentUpdateRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentUpdatedEvent;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentUpdateServiceTest {
+
+    private static final long COMMENT_ID = 20L;
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CommentUpdateService commentUpdateService;
+    private User user;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        commentUpdateService = new CommentUpdateService(commentRepository, eventPublisher, transactionManager, 3);
+        user = new User("a@a.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        todo = new Todo("title", "contents", "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", 10L);
+    }
+
+    @Test
+    void 작성자가_아니면_수정할_수_없다() {
+        // given
+        given(commentRepository.findByIdWithUser(COMMENT_ID)).willReturn(Optional.of(comment("contents", 0L)));
+        AuthUser other = new AuthUser(2L, "b@b.com", UserRole.USER);
+
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> commentUpdateService.updateComment(other, COMMENT_ID, 0L, new CommentUpdateRequest("new")));
+        verify(commentRepository, never()).flush();
+    }
+
+    @Test
+    void 내용을_바꾸고_이벤트를_발행한다() {
+        // given
+        given(commentRepository.findByIdWithUser(COMMENT_ID)).willReturn(Optional.of(comment("contents", 0L)));
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+        // when
+        CommentResponse response = commentUpdateService.updateComment(authUser, COMMENT_ID, 0L, new CommentUpdateRequest("new"));
+
+        // then
+        assertEquals("new", response.getContents());
+        verify(commentRepository).flush();
+        verify(eventPublisher).publishEvent(any(CommentUpdatedEvent.class));
+    }
+
+    @Test
+    void 동시에_내용이_바뀌었으면_412_로_거절한다() {
+        // given
+        given(commentRepository.findByIdWithUser(COMMENT_ID)).willReturn(
+                Optional.of(comment("contents", 0L)),
+                Optional.of(comment("other", 1L))
+        );
+        willThrow(new ObjectOptimisticLockingFailureException(Comment.class, COMMENT_ID)).given(commentRepository).flush();
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+        // when
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> commentUpdateService.updateComment(authUser, COMMENT_ID, 0L, new CommentUpdateRequest("new")));
+
+        // then
+        assertEquals(1L, exception.getCurrentVersion());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private Comment comment(String contents, long version) {
+        Comment comment = new Comment(contents, user, todo);
+        ReflectionTestUtils.setField(comment, "id", COMMENT_ID);
+        ReflectionTestUtils.setField(comment, "version", version);
+        return comment;
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.expert.domain.common.id;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Table;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * IDENTITY 와 애플리케이션 생성 id(TSID)의 INSERT 처리량과 행당 SQL 수 비교.
+ * 이전 매핑(IDENTITY)은 Todo/Manager 와 같은 모양의 벤치마크 전용 엔티티로 재현한다.
+ * <p>
+ * 메모리 H2 에서는 왕복 비용이 거의 없어 처리량 차이가 실행마다 뒤집힐 정도로 작다. 그래서 처리량은 출력만 하고,
+ * 검증하는 것은 일괄 경로의 행당 SQL 수가 줄어든다는 것과 saveTodo 는 양쪽 모두 행당 한 문장이라는 것뿐이다.
+ * 처리량 이득은 네트워크 왕복이 있는 MySQL(rewriteBatchedStatements=true)에서 측정해야 드러난다.
+ * <p>
+ * 기본 test 에서는 제외된다. {@code ./gradlew benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(PersistenceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdGenerationBenchmarkTest {
+
+    private static final int SINGLE_ITERATIONS = 2_000;
+    private static final int BULK_ITERATIONS = 20;
+    private static final int BULK_SIZE = 1_000;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void 애플리케이션_생성_id_는_INSERT_를_배치로_묶는다() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        User user = transaction.execute(status -> {
+            User saved = new User("bench@example.com", "password", UserRole.USER);
+            entityManager.persist(saved);
+            return saved;
+        });
+
+        // saveTodo 와 같은 모양: 트랜잭션마다 일정 1건 + 작성자 담당자 1건
+        Measurement identitySingle = measure(SINGLE_ITERATIONS, 1, transaction, () -> new IdentityTodo());
+        Measurement tsidSingle = measure(SINGLE_ITERATIONS, 1, transaction, () -> new Todo("title", "contents", "Sunny", user));
+        // 일괄 경로: 트랜잭션 하나에 일정 BULK_SIZE 건
+        Measurement identityBulk = measure(BULK_ITERATIONS, BULK_SIZE, transaction, () -> new IdentityTodo());
+        Measurement tsidBulk = measure(BULK_ITERATIONS, BULK_SIZE, transaction, () -> new Todo("title", "contents", "Sunny", user));
+
+        // then
+        print("saveTodo IDENTITY", identitySingle);
+        print("saveTodo TSID    ", tsidSingle);
+        print("bulk     IDENTITY", identityBulk);
+        print("bulk     TSID    ", tsidBulk);
+        assertEquals(identitySingle.statementsPerRow(), tsidSingle.statementsPerRow(), 0.001);
+        assertTrue(tsidBulk.statementsPerRow() < identityBulk.statementsPerRow());
+    }
+
+    private Measurement measure(int iterations, int rowsPerTransaction, TransactionTemplate transaction, Supplier<Object> todo) {
+        Runnable operation = () -> transaction.executeWithoutResult(status -> {
+            for (int i = 0; i < rowsPerTransaction; i++) {
+                entityManager.persist(todo.get());
+            }
+        });
+        for (int i = 0; i < Math.max(1, iterations / 10); i++) {
+            operation.run();
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long rows = statistics.getEntityInsertCount();
+        return new Measurement(
+                rows * 1_000_000_000.0 / elapsedNanos,
+                (double) statistics.getPrepareStatementCount() / rows
+        );
+    }
+
+    private static void print(String label, Measurement measurement) {
+        System.out.printf("%s : %,.0f rows/s, %.3f statements per row%n",
+                label, measurement.rowsPerSecond(), measurement.statementsPerRow());
+    }
+
+    private static final class Measurement {
+
+        private final double rowsPerSecond;
+        private final double statementsPerRow;
+
+        private Measurement(double rowsPerSecond, double statementsPerRow) {
+            this.rowsPerSecond = rowsPerSecond;
+            this.statementsPerRow = statementsPerRow;
+        }
+
+        double rowsPerSecond() {
+            return rowsPerSecond;
+        }
+
+        double statementsPerRow() {
+            return statementsPerRow;
+        }
+    }
+
+    // 이전 매핑 재현용
+    @Entity
+    @Table(name = "bench_identity_todos")
+    static class IdentityTodo {
+
+        @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private String title = "title";
+
+        @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
+        private List<IdentityManager> managers = new ArrayList<>();
+
+        IdentityTodo() {
+            this.managers.add(new IdentityManager(this));
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_identity_managers")
+    static class IdentityManager {
+
+        @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "todo_id", nullable = false)
+        private IdentityTodo todo;
+
+        protected IdentityManager() {
+        }
+
+        IdentityManager(IdentityTodo todo) {
+            this.todo = todo;
+        }
+    }
+}
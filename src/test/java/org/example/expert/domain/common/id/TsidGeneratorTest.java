@@ -0,0 +1,53 @@
+package org.example.expert.domain.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TsidGeneratorTest {
+
+    @Test
+    void 같은_밀리초_안에서도_증가하고_시각을_되돌려_읽을_수_있다() {
+        // given
+        long now = TsidGenerator.EPOCH_MILLIS + 86_400_000L;
+        TsidGenerator generator = new TsidGenerator(3, () -> now);
+
+        // when
+        long first = generator.next();
+        long second = generator.next();
+
+        // then
+        assertTrue(second > first);
+        assertEquals(now, TsidGenerator.timestampMillis(first));
+        assertTrue(first < (1L << 53));
+    }
+
+    @Test
+    void 순번을_다_쓰거나_시계가_뒤로_가도_줄어들지_않는다() {
+        // given
+        AtomicLong clock = new AtomicLong(TsidGenerator.EPOCH_MILLIS + 1_000L);
+        TsidGenerator generator = new TsidGenerator(0, clock::get);
+
+        // when & then
+        long previous = generator.next();
+        for (int i = 0; i < 1_000; i++) {
+            long id = generator.next();
+            assertTrue(id > previous);
+            previous = id;
+        }
+        clock.addAndGet(-500L);
+        assertTrue(generator.next() > previous);
+    }
+
+    @Test
+    void 노드가_다르면_같은_시각에도_id_가_다르다() {
+        // given
+        long now = TsidGenerator.EPOCH_MILLIS;
+
+        // when & then
+        assertNotEquals(new TsidGenerator(1, () -> now).next(), new TsidGenerator(2, () -> now).next());
+        assertThrows(IllegalArgumentException.class, () -> new TsidGenerator(TsidGenerator.MAX_NODE + 1, () -> now));
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.expert.domain.manager.index;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.manager.dto.projection.ManagerPairRow;
+import org.example.expert.domain.manager.event.ManagersRemovedEvent;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ManagerMembershipIndexTest {
+
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ManagerMembershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ManagerMembershipIndex(managerRepository, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        index.close();
+    }
+
+    @Test
+    void 담당자가_빠지면_그_일정의_담당자를_다시_읽어_맞춘다() throws InterruptedException {
+        // given
+        given(managerRepository.streamAllPairs()).willReturn(Stream.of(new ManagerPairRow(1L, 10L), new ManagerPairRow(1L, 20L)));
+        given(managerRepository.findUserIdsByTodoId(1L)).willReturn(List.of(10L));
+        index.initialize();
+        await(index::isReady);
+
+        // when
+        index.onManagersRemoved(new ManagersRemovedEvent(List.of(1L)));
+
+        // then
+        await(() -> !index.isManager(1L, 20L));
+        assertTrue(index.isManager(1L, 10L));
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "5초 안에 반영되지 않았습니다.");
+            Thread.sleep(10);
+        }
+    }
+}
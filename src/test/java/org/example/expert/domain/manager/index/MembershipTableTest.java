@@ -0,0 +1,94 @@
+package org.example.expert.domain.manager.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MembershipTableTest {
+
+    @Test
+    void 담당자를_정렬된_순서로_돌려주고_중복_등록은_무시한다() {
+        // given
+        MembershipTable table = new MembershipTable();
+
+        // when
+        assertTrue(table.add(1L, 30L));
+        assertTrue(table.add(1L, 10L));
+        assertTrue(table.add(1L, 20L));
+        assertFalse(table.add(1L, 10L));
+
+        // then
+        assertArrayEquals(new long[]{10L, 20L, 30L}, table.get(1L));
+        assertTrue(table.contains(1L, 20L));
+        assertFalse(table.contains(1L, 40L));
+        assertFalse(table.contains(2L, 10L));
+        assertEquals(1, table.todoCount());
+        assertEquals(3, table.assignmentCount());
+    }
+
+    @Test
+    void 마지막_담당자를_지우면_일정도_빠진다() {
+        // given
+        MembershipTable table = new MembershipTable();
+        table.add(1L, 10L);
+        table.add(2L, 10L);
+        table.add(2L, 20L);
+
+        // when
+        assertTrue(table.remove(1L, 10L));
+        assertFalse(table.remove(1L, 10L));
+        int removed = table.removeAll(2L);
+
+        // then
+        assertEquals(2, removed);
+        assertEquals(0, table.todoCount());
+        assertEquals(0, table.assignmentCount());
+        assertEquals(0, table.get(2L).length);
+    }
+
+    @Test
+    void 임의의_등록과_삭제_후에도_기준_구현과_같다() {
+        // given: 작은 초기 크기로 시작해 확장과 삭제 시 당겨 채우기를 모두 거친다
+        MembershipTable table = new MembershipTable(16);
+        Map<Long, Set<Long>> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 200_000; i++) {
+            long todoId = 1 + random.nextInt(5_000);
+            long userId = 1 + random.nextInt(8);
+            int op = random.nextInt(10);
+            if (op < 6) {
+                assertEquals(expected.computeIfAbsent(todoId, id -> new HashSet<>()).add(userId), table.add(todoId, userId));
+            } else if (op < 9) {
+                Set<Long> users = expected.get(todoId);
+                boolean removed = users != null && users.remove(userId);
+                if (users != null && users.isEmpty()) {
+                    expected.remove(todoId);
+                }
+                assertEquals(removed, table.remove(todoId, userId));
+            } else {
+                Set<Long> users = expected.remove(todoId);
+                assertEquals(users == null ? 0 : users.size(), table.removeAll(todoId));
+            }
+        }
+
+        // then
+        assertEquals(expected.size(), table.todoCount());
+        long assignments = 0;
+        for (Map.Entry<Long, Set<Long>> entry : expected.entrySet()) {
+            assignments += entry.getValue().size();
+            assertEquals(entry.getValue().size(), table.get(entry.getKey()).length);
+            for (Long userId : entry.getValue()) {
+                assertTrue(table.contains(entry.getKey(), userId));
+            }
+        }
+        assertEquals(assignments, table.assignmentCount());
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.projection.ManagerPairRow;
+import org.example.expert.domain.manager.dto.request.ManagerAdminBatchSaveRequest;
+import org.example.expert.domain.manager.dto.request.ManagerBatchItemRequest;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBatchItemResult;
+import org.example.expert.domain.manager.dto.response.ManagerBatchSaveResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.projection.TodoOwnerRow;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ManagerBatchServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ManagerBatchService managerBatchService;
+
+    @BeforeEach
+    void setUp() {
+        managerBatchService = new ManagerBatchService(jdbcTemplate, managerRepository, todoRepository, userRepository, eventPublisher, 100);
+    }
+
+    @Test
+    void 담당자를_일괄_등록하고_유저별_결과를_돌려준다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        given(todoRepository.findOwnerById(todoId)).willReturn(Optional.of(new TodoOwnerRow(todoId, 1L)));
+        given(todoRepository.lockExistingIds(List.of(todoId))).willReturn(List.of(todoId));
+        given(userRepository.findExistingIds(anyCollection())).willReturn(List.of(1L, 2L, 3L, 4L));
+        given(managerRepository.findPairs(anyCollection(), anyCollection()))
+                .willReturn(List.of(new ManagerPairRow(todoId, 1L), new ManagerPairRow(todoId, 3L)));
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willReturn(new int[][]{{1, 1}});
+
+        // when: 본인, 신규, 기존, 없는 유저, 신규, 요청 내 중복
+        ManagerBatchSaveResponse response = managerBatchService.saveManagers(authUser, todoId,
+                new ManagerBatchSaveRequest(List.of(1L, 2L, 3L, 9L, 4L, 2L)));
+
+        // then
+        List<ManagerBatchItemResult> results = response.getResults();
+        assertEquals(ManagerBatchItemResult.REJECTED, results.get(0).getStatus());
+        assertEquals(ManagerBatchItemResult.CREATED, results.get(1).getStatus());
+        assertEquals(ManagerBatchItemResult.SKIPPED, results.get(2).getStatus());
+        assertEquals("등록하려고 하는 담당자 유저가 존재하지 않습니다.", results.get(3).getMessage());
+        assertEquals(ManagerBatchItemResult.CREATED, results.get(4).getStatus());
+        assertEquals(ManagerBatchItemResult.SKIPPED, results.get(5).getStatus());
+        assertEquals(2, response.getInserted());
+        assertEquals(2, response.getSkipped());
+        assertEquals(2, response.getRejected());
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<ManagerBatchItemRequest> rows) -> rows.size() == 2),
+                eq(100), any(ParameterizedPreparedStatementSetter.class));
+        verify(todoRepository).addManagerCount(todoId, 2L);
+    }
+
+    @Test
+    void 일정이_없으면_일괄_등록에_실패한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        given(todoRepository.findOwnerById(anyLong())).willReturn(Optional.empty());
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerBatchService.saveManagers(authUser, 1L, new ManagerBatchSaveRequest(List.of(2L))));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void 관리자_일괄_등록은_없는_일정을_항목별로_거절한다() {
+        // given
+        given(todoRepository.lockExistingIds(anyCollection())).willReturn(List.of(1L));
+        given(userRepository.findExistingIds(anyCollection())).willReturn(List.of(2L));
+        given(managerRepository.findPairs(anyCollection(), anyCollection())).willReturn(List.of());
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willReturn(new int[][]{{1}});
+
+        // when
+        ManagerBatchSaveResponse response = managerBatchService.saveManagersAcrossTodos(new ManagerAdminBatchSaveRequest(List.of(
+                new ManagerBatchItemRequest(1L, 2L),
+                new ManagerBatchItemRequest(5L, 2L)
+        )));
+
+        // then
+        assertEquals(1, response.getInserted());
+        assertEquals("Todo not found", response.getResults().get(1).getMessage());
+        verify(todoRepository).addManagerCount(1L, 1L);
+    }
+
+    @Test
+    void 확인_후_다른_요청이_먼저_넣은_쌍은_건너뛴_것으로_돌려준다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        given(todoRepository.findOwnerById(todoId)).willReturn(Optional.of(new TodoOwnerRow(todoId, 1L)));
+        given(todoRepository.lockExistingIds(List.of(todoId))).willReturn(List.of(todoId));
+        given(userRepository.findExistingIds(anyCollection())).willReturn(List.of(2L, 3L));
+        given(managerRepository.findPairs(anyCollection(), anyCollection())).willReturn(List.of());
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willReturn(new int[][]{{0, 1}});
+
+        // when
+        ManagerBatchSaveResponse response = managerBatchService.saveManagers(authUser, todoId,
+                new ManagerBatchSaveRequest(List.of(2L, 3L)));
+
+        // then
+        assertEquals(ManagerBatchItemResult.SKIPPED, response.getResults().get(0).getStatus());
+        assertEquals(ManagerBatchItemResult.CREATED, response.getResults().get(1).getStatus());
+        assertEquals(1, response.getInserted());
+        assertEquals(1, response.getSkipped());
+        verify(todoRepository).addManagerCount(todoId, 1L);
+    }
+}
@@ -6,7 +6,9 @@ import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.event.ManagersRemovedEvent;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.projection.TodoOwnerRow;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -16,10 +18,14 @@ import org.example.expert.domain.user.service.UserService;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -27,9 +33,12 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class ManagerServiceTest {
@@ -40,6 +49,10 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
     @InjectMocks
     private ManagerService managerService;
 
@@ -53,7 +66,7 @@ class ManagerServiceTest {
 
             AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
-            given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+            given(todoRepository.findOwnerById(anyLong())).willReturn(Optional.empty());
 
             // when & then
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -71,12 +84,9 @@ class ManagerServiceTest {
 
             AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
 
-            Todo todo = new Todo();
-            ReflectionTestUtils.setField(todo, "user", null);
-
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(todoRepository.findOwnerById(todoId)).willReturn(Optional.of(new TodoOwnerRow(todoId, null)));
 
             // when & then
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -101,7 +111,7 @@ class ManagerServiceTest {
 
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-            given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+            given(todoRepository.findOwnerById(anyLong())).willReturn(Optional.of(new TodoOwnerRow(1L, user.getId())));
             given(userRepository.findById(anyLong())).willReturn(Optional.of(managerUser));
 
             // when & then: 유저와 매니저의 ID가 같을 때 InvalidRequestException 발생하는지 확인
@@ -123,7 +133,7 @@ class ManagerServiceTest {
             Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
 
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
-            given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+            given(todoRepository.findOwnerById(anyLong())).willReturn(Optional.of(new TodoOwnerRow(1L, user.getId())));
             given(userRepository.findById(anyLong())).willReturn(Optional.empty());
 
             // when
@@ -152,17 +162,68 @@ class ManagerServiceTest {
 
             ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(todoRepository.findOwnerById(todoId)).willReturn(Optional.of(new TodoOwnerRow(todoId, user.getId())));
             given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
-            given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(managerRepository.insertIfAbsent(anyLong(), eq(todoId), eq(managerUserId))).willReturn(1);
 
             // when
             ManagerSaveResponse response = managerService.saveManager(authUser, todoId, managerSaveRequest);
 
-            // then
+            // then: id 를 미리 정해 넣으므로 다시 조회하지 않는다
             assertNotNull(response);
+            assertNotNull(response.getId());
+            verify(managerRepository, never()).findIdByTodoIdAndUserId(anyLong(), anyLong());
             assertEquals(managerUser.getId(), response.getUser().getId());
             assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+            verify(todoRepository).addManagerCount(todoId, 1);
+        }
+
+        @Test
+        void 이미_등록된_담당자를_다시_등록하면_기존_배정을_돌려준다() {
+            // given
+            long todoId = 1L;
+            long managerUserId = 2L;
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            User managerUser = new User("b@b.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+
+            given(todoRepository.findOwnerById(todoId)).willReturn(Optional.of(new TodoOwnerRow(todoId, authUser.getId())));
+            given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+            given(managerRepository.insertIfAbsent(anyLong(), eq(todoId), eq(managerUserId))).willReturn(0);
+            given(managerRepository.findIdByTodoIdAndUserId(todoId, managerUserId)).willReturn(Optional.of(10L));
+
+            // when
+            ManagerSaveResponse response = managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId));
+
+            // then
+            assertEquals(10L, response.getId());
+            verify(todoRepository, never()).addManagerCount(anyLong(), anyLong());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        void 동시에_들어온_같은_배정이_유니크_제약에_걸리면_먼저_들어간_배정을_돌려준다() {
+            // given
+            long todoId = 1L;
+            long managerUserId = 2L;
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            User managerUser = new User("b@b.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+
+            given(todoRepository.findOwnerById(todoId)).willReturn(Optional.of(new TodoOwnerRow(todoId, authUser.getId())));
+            given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+            given(managerRepository.insertIfAbsent(anyLong(), eq(todoId), eq(managerUserId)))
+                    .willThrow(new DataIntegrityViolationException("uk_managers_todo_id_user_id"));
+            given(managerRepository.findIdByTodoIdAndUserId(todoId, managerUserId)).willReturn(Optional.of(10L));
+
+            // when
+            ManagerSaveResponse response = managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId));
+
+            // then: 실패한 트랜잭션은 되돌리고 새로 읽는다
+            assertEquals(10L, response.getId());
+            verify(transactionManager).rollback(any());
+            verify(todoRepository, never()).addManagerCount(anyLong(), anyLong());
+            verifyNoInteractions(eventPublisher);
         }
 
     }
@@ -210,182 +271,95 @@ class ManagerServiceTest {
     @Nested
     class DeleteManager {
 
-        @Test
-        void User_찾기_실패() {
-            Long userId = 1L;
-            Long todoId = 1L;
-            Long managerId = 1L;
+        private final long userId = 1L;
+        private final long todoId = 1L;
+        private final long managerId = 1L;
 
+        private String deleteFailureMessage() {
+            given(managerRepository.deleteByIdAndTodoOwner(managerId, todoId, userId)).willReturn(0);
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    managerService.deleteManager(userId, todoId, managerId));
+            verify(todoRepository, never()).addManagerCount(anyLong(), anyLong());
+            return exception.getMessage();
+        }
+
+        @Test
+        void 담당자_삭제는_조건부_DELETE_한_번으로_끝나고_빠진_일정을_알린다() {
             // given
-            given(userRepository.findById(anyLong())).willReturn(Optional.empty());
+            given(managerRepository.deleteByIdAndTodoOwner(managerId, todoId, userId)).willReturn(1);
 
             // when
-            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
-                managerService.deleteManager(userId, todoId, managerId);
-            });
+            managerService.deleteManager(userId, todoId, managerId);
 
             // then
-            assertEquals("User not found", exception.getMessage());
+            verify(todoRepository).addManagerCount(todoId, -1);
+            ArgumentCaptor<ManagersRemovedEvent> captor = ArgumentCaptor.forClass(ManagersRemovedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertEquals(List.of(todoId), captor.getValue().getTodoIds());
+            verifyNoInteractions(userRepository);
+            verify(todoRepository, never()).findOwnerById(anyLong());
+            verify(managerRepository, never()).findTodoIdById(anyLong());
         }
 
+        @Test
+        void User_찾기_실패() {
+            // given
+            given(userRepository.existsById(userId)).willReturn(false);
+
+            // when & then
+            assertEquals("User not found", deleteFailureMessage());
+        }
 
         @Test
         void todo_찾기_실패() {
-            Long userId = 1L;
-            Long todoId = 1L;
-            Long managerId = 1L;
-
-            User user = new User();
             // given
-            given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(todoRepository.findOwnerById(todoId)).willReturn(Optional.empty());
 
-            // when
-            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
-                managerService.deleteManager(userId, todoId, managerId);
-            });
-
-            // then
-            assertEquals("Todo not found", exception.getMessage());
+            // when & then
+            assertEquals("Todo not found", deleteFailureMessage());
         }
 
         @Test
         void 일정_만든_유저_찾기_실패() {
-            Long userId = 1L;
-            Long todoId = 1L;
-            Long managerId = 1L;
-
-            User user = new User("123@naver.com", "123", UserRole.USER);
-            Todo todo = new Todo("title", "contents", "Sunny", null);
-
             // given
-            given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
-            given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
-
-            // when
-            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
-                managerService.deleteManager(userId, todoId, managerId);
-            });
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(todoRepository.findOwnerById(todoId)).willReturn(Optional.of(new TodoOwnerRow(todoId, null)));
 
-            // then
-            assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+            // when & then
+            assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", deleteFailureMessage());
         }
 
         @Test
         void UserId_todoUserId가_불일치() {
-            Long userId = 1L;  // 요청 보낸 유저의 아이디
-            Long todoId = 1L;  // 할 일 ID
-            Long managerId = 1L;  // 매니저 ID
-
-            User user = new User("a@a.com", "password", UserRole.USER);  // 요청한 유저
-            ReflectionTestUtils.setField(user, "id", userId);  // 유저 ID 설정
-
-            User differentUser = new User("b@b.com", "password", UserRole.USER);  // 다른 유저
-            ReflectionTestUtils.setField(differentUser, "id", 2L);  // 다른 유저 ID 설정
-
-            Todo todo = new Todo("Test Title", "Test Contents", "Sunny", differentUser);  // 다른 유저가 작성한 일정
-
-
             // given
-            given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
-            given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(todoRepository.findOwnerById(todoId)).willReturn(Optional.of(new TodoOwnerRow(todoId, 2L)));
 
-            // when
-            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
-                managerService.deleteManager(userId, todoId, managerId);
-            });
-
-            // then
-            assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+            // when & then
+            assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", deleteFailureMessage());
         }
 
         @Test
         void todo_매니저_찾기_실패() {
-            Long userId = 1L;
-            Long todoId = 1L;
-            Long managerId = 1L;
-
-            User user = new User("123@naver.com", "123", UserRole.USER);
-            Todo todo = new Todo("title", "contents", "Sunny", user);
-
             // given
-            given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
-            given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
-            given(managerRepository.findById(anyLong())).willReturn(Optional.empty());
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(todoRepository.findOwnerById(todoId)).willReturn(Optional.of(new TodoOwnerRow(todoId, userId)));
+            given(managerRepository.findTodoIdById(managerId)).willReturn(Optional.empty());
 
-            // when
-            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
-                managerService.deleteManager(userId, todoId, managerId);
-            });
-
-            // then
-            assertEquals("Manager not found", exception.getMessage());
+            // when & then
+            assertEquals("Manager not found", deleteFailureMessage());
         }
 
-
         @Test
         void 해당_일정에_등록된_담당자_불일치() {
-            Long userId = 1L;
-            Long todoId = 1L;
-            Long managerId = 1L;
-
-            // 유저 생성
-            User user = new User("123@naver.com", "123", UserRole.USER);
-            ReflectionTestUtils.setField(user, "id", userId);  // userId를 설정
-
-            // 다른 ID를 가진 Todo 생성
-            Todo todo = new Todo("title", "contents", "Sunny", user);
-            ReflectionTestUtils.setField(todo, "id", todoId);
-
-            Todo differentTodo = new Todo("title", "contents", "Sunny", user);
-            ReflectionTestUtils.setField(todo, "id", 2L);
-
-            Manager manager = new Manager(user, differentTodo);
-
-            given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
-            given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
-            given(managerRepository.findById(anyLong())).willReturn(Optional.of(manager));
-
-            // when: 예외가 발생해야 하는 조건에서 deleteManager를 호출
-            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
-                managerService.deleteManager(userId, todoId, managerId);
-            });
-
-            // then: 예외 메시지 확인
-            assertEquals("해당 일정에 등록된 담당자가 아닙니다.", exception.getMessage());
-        }
-
-        @Test
-        void 일정_삭제_성공() {
-            Long userId = 1L;
-            Long todoId = 1L;
-            Long managerId = 1L;
-
-            // 유저 생성
-            User user = new User("123@naver.com", "123", UserRole.USER);
-            ReflectionTestUtils.setField(user, "id", userId);  // userId를 설정
-
-            // 다른 ID를 가진 Todo 생성
-            Todo todo = new Todo("title", "contents", "Sunny", user);
-            ReflectionTestUtils.setField(todo, "id", todoId);
-
-
-            Manager manager = new Manager(user, todo);
-
-            given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
-            given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
-            given(managerRepository.findById(anyLong())).willReturn(Optional.of(manager));
-
-            // when: 예외가 발생해야 하는 조건에서 deleteManager를 호출
-            managerService.deleteManager(userId, todoId, managerId);
-
-
-            // then: 예외 메시지 확인
+            // given
+            given(userRepository.existsById(userId)).willReturn(true);
+            given(todoRepository.findOwnerById(todoId)).willReturn(Optional.of(new TodoOwnerRow(todoId, userId)));
+            given(managerRepository.findTodoIdById(managerId)).willReturn(Optional.of(2L));
 
-            verify(userRepository, times(1)).findById(anyLong());
-            verify(todoRepository, times(1)).findById(anyLong());
-            verify(managerRepository, times(1)).findById(anyLong());
+            // when & then
+            assertEquals("해당 일정에 등록된 담당자가 아닙니다.", deleteFailureMessage());
         }
-
     }
 }
-
@@ -0,0 +1,66 @@
+package org.example.expert.domain.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.archive.event.TodosArchivedEvent;
+import org.example.expert.domain.manager.dto.projection.ManagerPairRow;
+import org.example.expert.domain.manager.event.ManagersAssignedEvent;
+import org.example.expert.domain.outbox.entity.OutboxMessage;
+import org.example.expert.domain.outbox.repository.OutboxMessageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRecorderTest {
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private OutboxRecorder outboxRecorder;
+
+    @Test
+    void 여러_일정에_걸친_담당자_등록은_일정마다_나누어_기록한다() {
+        // given
+        ManagersAssignedEvent event = new ManagersAssignedEvent(List.of(
+                new ManagerPairRow(1L, 10L),
+                new ManagerPairRow(2L, 10L),
+                new ManagerPairRow(1L, 11L)
+        ));
+
+        // when
+        outboxRecorder.onManagersAssigned(event);
+
+        // then
+        ArgumentCaptor<OutboxMessage> captor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outboxMessageRepository, times(2)).save(captor.capture());
+        assertEquals(1L, captor.getAllValues().get(0).getAggregateId());
+        assertEquals(2L, captor.getAllValues().get(1).getAggregateId());
+        assertEquals("manager.assigned", captor.getAllValues().get(0).getEventType());
+    }
+
+    @Test
+    void 일정_보관은_일정마다_나누어_기록한다() {
+        // when
+        outboxRecorder.onTodosArchived(new TodosArchivedEvent(List.of(1L, 2L)));
+
+        // then
+        ArgumentCaptor<OutboxMessage> captor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outboxMessageRepository, times(2)).save(captor.capture());
+        assertEquals(1L, captor.getAllValues().get(0).getAggregateId());
+        assertEquals(2L, captor.getAllValues().get(1).getAggregateId());
+        assertEquals("todo.archived", captor.getAllValues().get(0).getEventType());
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.expert.domain.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.outbox.entity.OutboxMessage;
+import org.example.expert.domain.outbox.repository.OutboxMessageRepository;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.event.TodoUpdatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+    @Mock
+    private OutboxConsumer consumer;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ParameterNamesModule());
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxMessageRepository, List.of(consumer), objectMapper, transactionManager,
+                new SimpleMeterRegistry(), 10, Duration.ofMinutes(5), 3);
+    }
+
+    @Test
+    void 일정마다_기록된_순서대로_전달하고_전달한_메시지를_지운다() throws Exception {
+        // given
+        OutboxMessage first = message(1L, 100L, new TodoSavedEvent(100L, 1L, "title", "contents"));
+        OutboxMessage other = message(2L, 200L, new CommentSavedEvent(200L, 5L, "comment", 1L, "a@a.com", 0L));
+        OutboxMessage second = message(3L, 100L, new TodoUpdatedEvent(100L, "title", "contents", "new", "contents"));
+        given(outboxMessageRepository.claimBatch(any(), any())).willReturn(List.of(first, other, second));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(consumer, times(3)).consume(events.capture());
+        assertInstanceOf(TodoSavedEvent.class, events.getAllValues().get(0));
+        assertInstanceOf(CommentSavedEvent.class, events.getAllValues().get(1));
+        TodoUpdatedEvent updated = assertInstanceOf(TodoUpdatedEvent.class, events.getAllValues().get(2));
+        assertEquals("new", updated.getTitle());
+        verify(outboxMessageRepository).deleteAllByIdIn(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void 전달에_실패하면_같은_일정의_뒤_메시지는_미루고_다시_시도할_시각을_늦춘다() throws Exception {
+        // given
+        OutboxMessage failing = message(1L, 100L, new TodoSavedEvent(100L, 1L, "title", "contents"));
+        OutboxMessage other = message(2L, 200L, new TodoSavedEvent(200L, 1L, "title", "contents"));
+        OutboxMessage after = message(3L, 100L, new TodoUpdatedEvent(100L, "title", "contents", "new", "contents"));
+        given(outboxMessageRepository.claimBatch(any(), any())).willReturn(List.of(failing, other, after));
+        willAnswer(invocation -> {
+            if (invocation.getArgument(0) instanceof TodoSavedEvent saved && saved.getTodoId() == 100L) {
+                throw new IllegalStateException("boom");
+            }
+            return null;
+        }).given(consumer).consume(any());
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(outboxMessageRepository).deleteAllByIdIn(List.of(2L));
+        verify(consumer, never()).consume(any(TodoUpdatedEvent.class));
+        assertEquals(1, failing.getAttempts());
+        assertTrue(failing.getNextAttemptAt().isAfter(failing.getCreatedAt()));
+    }
+
+    @Test
+    void 앞선_메시지를_가져오지_못한_일정은_이번에_보내지_않는다() throws Exception {
+        // given: 일정 100 의 앞선 메시지를 다른 relay 가 잡고 있다
+        OutboxMessage blocked = message(5L, 100L, new TodoSavedEvent(100L, 1L, "title", "contents"));
+        OutboxMessage other = message(6L, 200L, new TodoSavedEvent(200L, 1L, "title", "contents"));
+        given(outboxMessageRepository.claimBatch(any(), any())).willReturn(List.of(blocked, other));
+        given(outboxMessageRepository.findAggregatesWithEarlierMessages(anyCollection(), eq(6L), anyCollection()))
+                .willReturn(List.of(100L));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(consumer, times(1)).consume(any());
+        verify(outboxMessageRepository).deleteAllByIdIn(List.of(6L));
+        assertEquals(0, blocked.getAttempts());
+    }
+
+    @Test
+    void 정해진_횟수만큼_실패한_메시지는_더_재시도하지_않고_남겨_둔다() throws Exception {
+        // given: 이미 두 번 실패했고 max-attempts 는 3
+        OutboxMessage poison = message(1L, 100L, new TodoSavedEvent(100L, 1L, "title", "contents"));
+        poison.failed("boom", LocalDateTime.now().minusSeconds(1));
+        poison.failed("boom", LocalDateTime.now().minusSeconds(1));
+        given(outboxMessageRepository.claimBatch(any(), any())).willReturn(List.of(poison));
+        willThrow(new IllegalStateException("boom")).given(consumer).consume(any());
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertEquals(3, poison.getAttempts());
+        assertNotNull(poison.getParkedAt());
+        verify(outboxMessageRepository, never()).deleteAllByIdIn(any());
+    }
+
+    @Test
+    void 횟수가_남은_메시지는_남겨_두지_않고_다시_시도한다() throws Exception {
+        // given
+        OutboxMessage failing = message(1L, 100L, new TodoSavedEvent(100L, 1L, "title", "contents"));
+        given(outboxMessageRepository.claimBatch(any(), any())).willReturn(List.of(failing));
+        willThrow(new IllegalStateException("boom")).given(consumer).consume(any());
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertEquals(1, failing.getAttempts());
+        assertNull(failing.getParkedAt());
+    }
+
+    private OutboxMessage message(long id, long todoId, Object event) throws Exception {
+        OutboxMessage message = new OutboxMessage(todoId, OutboxEventTypes.nameOf(event.getClass()),
+                objectMapper.writeValueAsString(event), LocalDateTime.now().minusSeconds(1));
+        ReflectionTestUtils.setField(message, "id", id);
+        return message;
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.domain.search.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchIndexTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void 한글은_2gram_으로_나누고_한_글자_영문은_버린다() {
+        assertEquals(List.of("일정", "정을", "hello"), Tokenizer.queryTerms("일정을, Hello a"));
+    }
+
+    @Test
+    void 제목에_나온_단어가_댓글에만_나온_단어보다_높은_순위다() {
+        // given
+        SearchIndex index = new SearchIndex();
+        index.addTodo(1L, SearchIndex.todoTerms("장보기", "우유"));
+        index.addTodo(2L, SearchIndex.todoTerms("청소", "방"));
+        index.addComment(2L, 1L, SearchIndex.commentTerms("장보기 도 같이"));
+
+        // when
+        List<SearchHit> hits = index.search(Tokenizer.queryTerms("장보기"), 10);
+
+        // then
+        assertEquals(2, hits.size());
+        assertEquals(1L, hits.get(0).getTodoId());
+        assertEquals(2L, hits.get(1).getTodoId());
+    }
+
+    @Test
+    void 수정하면_이전_단어로는_찾을_수_없다() {
+        // given
+        SearchIndex index = new SearchIndex();
+        index.addTodo(1L, SearchIndex.todoTerms("before", "contents"));
+        Map<String, Integer> deltas = new HashMap<>(SearchIndex.todoTerms("after", "contents"));
+        SearchIndex.todoTerms("before", "contents").forEach((term, count) -> deltas.merge(term, -count, Integer::sum));
+
+        // when
+        index.apply(1L, deltas);
+
+        // then
+        assertTrue(index.search(List.of("before"), 10).isEmpty());
+        assertEquals(1, index.search(List.of("after"), 10).size());
+        assertEquals(1, index.search(List.of("contents"), 10).size());
+    }
+
+    @Test
+    void 기존_todo_에_대한_변경이_많아도_posting_이_유지된다() {
+        // given: skip 간격과 compaction 기준을 넘도록 만든다
+        SearchIndex index = new SearchIndex();
+        for (long todoId = 1; todoId <= 2_000; todoId++) {
+            index.addTodo(todoId, SearchIndex.todoTerms("common", null));
+        }
+
+        // when
+        for (long todoId = 2; todoId <= 2_000; todoId += 2) {
+            index.addComment(todoId, todoId, SearchIndex.commentTerms("even"));
+        }
+
+        // then
+        assertEquals(2_000, index.search(List.of("common"), 5_000).size());
+        assertEquals(1_000, index.search(List.of("even"), 5_000).size());
+    }
+
+    @Test
+    void 스냅샷에서_다시_읽으면_같은_결과와_watermark_를_가진다() throws Exception {
+        // given
+        SearchIndex index = new SearchIndex();
+        for (long todoId = 1; todoId <= 300; todoId++) {
+            index.addTodo(todoId, SearchIndex.todoTerms("title " + todoId, "shared"));
+        }
+        index.addComment(150L, 77L, SearchIndex.commentTerms("shared shared"));
+        Path snapshot = dir.resolve("index.snap");
+
+        // when
+        index.writeTo(snapshot);
+        SearchIndex restored = SearchIndex.readFrom(snapshot);
+
+        // then
+        assertEquals(300L, restored.getMaxTodoId());
+        assertEquals(77L, restored.getMaxCommentId());
+        assertEquals(index.getTermCount(), restored.getTermCount());
+        assertEquals(150L, restored.search(List.of("shared"), 1).get(0).getTodoId());
+    }
+}
@@ -1,9 +1,16 @@
 package org.example.expert.domain.todo;
 
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.archive.entity.ArchivedTodo;
+import org.example.expert.domain.archive.repository.ArchivedTodoRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.projection.ManagedTodoRow;
+import org.example.expert.domain.todo.dto.projection.TodoOwnerRow;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.ManagedTodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
@@ -17,19 +24,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
@@ -37,7 +49,15 @@ public class TodoServiceTest {
     @Mock
     private TodoRepository todoRepository;
     @Mock
+    private ArchivedTodoRepository archivedTodoRepository;
+    @Mock
     private WeatherClient weatherClient;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private TodoService todoService;
@@ -147,8 +167,136 @@ public class TodoServiceTest {
             assertNotNull(todoResponse);
             assertEquals(1, todoResponse.getId());
             assertEquals(2, todoResponse.getUser().getId());
+            assertEquals(1, todoResponse.getManagerCount()); // 작성자가 기본 담당자로 등록됨
+            assertEquals(0, todoResponse.getCommentCount());
+        }
+
+        @Test
+        public void 보관된_일정은_보관_테이블에서_조회한다() {
+            // given
+            long todoId = 1L;
+            User user = new User("alden200", "1234", UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", 2L);
+            ArchivedTodo archived = new ArchivedTodo();
+            ReflectionTestUtils.setField(archived, "id", todoId);
+            ReflectionTestUtils.setField(archived, "title", "title");
+            ReflectionTestUtils.setField(archived, "user", user);
+            ReflectionTestUtils.setField(archived, "commentCount", 3L);
+
+            given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.empty());
+            given(archivedTodoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(archived));
+
+            // when
+            TodoResponse todoResponse = todoService.getTodo(todoId);
+
+            // then
+            assertEquals(1, todoResponse.getId());
+            assertEquals("title", todoResponse.getTitle());
+            assertEquals(2, todoResponse.getUser().getId());
+            assertEquals(3, todoResponse.getCommentCount());
         }
 
     }
 
+    @Nested
+    class GetManagedTodosTest {
+
+        private ManagedTodoRow row(long id, LocalDateTime modifiedAt) {
+            return new ManagedTodoRow(id, "title", "Sunny", 2L, "owner@a.com", 0L, 2L, modifiedAt, modifiedAt);
+        }
+
+        @Test
+        public void 한_건_더_읽히면_마지막_항목으로_다음_커서를_만든다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            LocalDateTime modifiedAt = LocalDateTime.of(2024, 5, 1, 12, 0, 0, 123_456_000);
+            given(todoRepository.findManagedTodos(eq(1L), any(Pageable.class)))
+                    .willReturn(List.of(row(3L, modifiedAt), row(2L, modifiedAt), row(1L, modifiedAt.minusDays(1))));
+
+            // when
+            ManagedTodoPageResponse response = todoService.getManagedTodos(authUser, null, 2);
+
+            // then
+            assertEquals(2, response.getTodos().size());
+            assertEquals("owner@a.com", response.getTodos().get(0).getUser().getEmail());
+            assertNotNull(response.getNextCursor());
+
+            // 다음 페이지는 커서의 (수정 시각, id) 이전부터 읽는다
+            given(todoRepository.findManagedTodosBefore(eq(1L), eq(modifiedAt), eq(2L), any(Pageable.class)))
+                    .willReturn(List.of(row(1L, modifiedAt.minusDays(1))));
+            ManagedTodoPageResponse next = todoService.getManagedTodos(authUser, response.getNextCursor(), 2);
+            assertEquals(1, next.getTodos().size());
+            assertNull(next.getNextCursor());
+        }
+
+        @Test
+        public void 잘못된_커서는_예외가_발생한다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    todoService.getManagedTodos(authUser, "abc", 20));
+            assertEquals("잘못된 커서입니다.", exception.getMessage());
+        }
+
+        @Test
+        public void 음수나_구분자가_어긋난_커서는_예외가_발생한다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+            // when & then
+            for (String cursor : List.of("-1_2", "1_-2", "_2", "1_", "1_2_3", "1-2")) {
+                assertThrows(InvalidRequestException.class, () -> todoService.getManagedTodos(authUser, cursor, 20));
+            }
+        }
+    }
+
+    @Nested
+    class DeleteTodoTest {
+        @Test
+        public void 일정_삭제_시_댓글과_담당자를_벌크로_삭제한다() {
+            // given
+            long todoId = 1L;
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            given(todoRepository.findOwnerById(todoId)).willReturn(Optional.of(new TodoOwnerRow(todoId, 1L)));
+
+            // when
+            todoService.deleteTodo(authUser, todoId);
+
+            // then
+            verify(commentRepository).deleteAllByTodoIdIn(List.of(todoId));
+            verify(managerRepository).deleteAllByTodoIdIn(List.of(todoId));
+            verify(todoRepository).deleteAllByIdIn(List.of(todoId));
+        }
+
+        @Test
+        public void 작성자가_아니면_일정을_삭제할_수_없다() {
+            // given
+            AuthUser authUser = new AuthUser(2L, "b@b.com", UserRole.USER);
+            given(todoRepository.findOwnerById(anyLong())).willReturn(Optional.of(new TodoOwnerRow(1L, 1L)));
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    todoService.deleteTodo(authUser, 1L));
+
+            // then
+            assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+            verify(todoRepository, never()).deleteAllByIdIn(any());
+        }
+
+        @Test
+        public void 일정이_없으면_삭제에_실패한다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            given(todoRepository.findOwnerById(anyLong())).willReturn(Optional.empty());
+
+            // when
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    todoService.deleteTodo(authUser, 1L));
+
+            // then
+            assertEquals("Todo not found", exception.getMessage());
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoActivityTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 카운터를_바꾸면_수정_시각은_그대로_두고_활동_시각을_남긴다() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        User user = userRepository.save(new User("activity@example.com", "password", UserRole.USER));
+        Todo todo = transaction.execute(status -> todoRepository.save(new Todo("title", "contents", "Sunny", user)));
+        LocalDateTime modifiedAt = todoRepository.findById(todo.getId()).orElseThrow().getModifiedAt();
+
+        // when
+        transaction.executeWithoutResult(status -> todoRepository.addCommentCount(todo.getId(), 1));
+
+        // then
+        Todo reloaded = todoRepository.findById(todo.getId()).orElseThrow();
+        assertEquals(modifiedAt, reloaded.getModifiedAt());
+        assertNotNull(reloaded.getLastActivityAt());
+        assertEquals(1, reloaded.getCommentCount());
+    }
+
+    @Test
+    void 최근_활동이_있는_일정은_보관_대상에서_빠진다() {
+        // given: 둘 다 cutoff 전에 수정됐고, 하나는 cutoff 뒤에 댓글이 달렸다
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        User user = userRepository.save(new User("archive@example.com", "password", UserRole.USER));
+        Todo idle = transaction.execute(status -> todoRepository.save(new Todo("idle", "contents", "Sunny", user)));
+        Todo active = transaction.execute(status -> todoRepository.save(new Todo("active", "contents", "Sunny", user)));
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+        transaction.executeWithoutResult(status -> todoRepository.addCommentCount(active.getId(), 1, cutoff.plusMinutes(1)));
+
+        // when
+        List<Long> ids = transaction.execute(status -> todoRepository.lockIdsInactiveBefore(cutoff, 10));
+
+        // then
+        assertTrue(ids.contains(idle.getId()));
+        assertFalse(ids.contains(active.getId()));
+    }
+}
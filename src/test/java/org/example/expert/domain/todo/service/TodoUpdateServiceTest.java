@@ -0,0 +1,146 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoUpdatedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoUpdateServiceTest {
+
+    private static final long TODO_ID = 10L;
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TodoUpdateService todoUpdateService;
+    private User user;
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        todoUpdateService = new TodoUpdateService(todoRepository, eventPublisher, transactionManager, 3);
+        user = new User("a@a.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+    }
+
+    @Test
+    void If_Match_버전이_현재_버전과_다르면_412_로_거절한다() {
+        // given
+        given(todoRepository.findByIdWithUser(TODO_ID)).willReturn(Optional.of(todo("title", "contents", 3L)));
+
+        // when
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> todoUpdateService.updateTodo(authUser, TODO_ID, 2L, new TodoUpdateRequest("new", null)));
+
+        // then
+        assertEquals(3L, exception.getCurrentVersion());
+        verify(todoRepository, never()).flush();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void 보낸_필드만_바꾸고_이전_값을_담은_이벤트를_발행한다() {
+        // given
+        given(todoRepository.findByIdWithUser(TODO_ID)).willReturn(Optional.of(todo("title", "contents", 2L)));
+
+        // when
+        TodoResponse response = todoUpdateService.updateTodo(authUser, TODO_ID, 2L, new TodoUpdateRequest("new", null));
+
+        // then
+        assertEquals("new", response.getTitle());
+        assertEquals("contents", response.getContents());
+        ArgumentCaptor<TodoUpdatedEvent> captor = ArgumentCaptor.forClass(TodoUpdatedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals("title", captor.getValue().getPreviousTitle());
+        assertEquals("new", captor.getValue().getTitle());
+        verify(todoRepository).flush();
+    }
+
+    @Test
+    void 다른_필드를_바꾼_동시_수정과_충돌하면_최신_상태에_다시_적용한다() {
+        // given: 버전 2 를 확인한 뒤 다른 요청이 내용을 바꿔 버전 3 을 먼저 커밋했다
+        given(todoRepository.findByIdWithUser(TODO_ID)).willReturn(
+                Optional.of(todo("title", "contents", 2L)),
+                Optional.of(todo("title", "other", 3L))
+        );
+        willThrow(new ObjectOptimisticLockingFailureException(Todo.class, TODO_ID))
+                .willDoNothing()
+                .given(todoRepository).flush();
+
+        // when
+        TodoResponse response = todoUpdateService.updateTodo(authUser, TODO_ID, 2L, new TodoUpdateRequest("new", null));
+
+        // then
+        assertEquals("new", response.getTitle());
+        assertEquals("other", response.getContents());
+        verify(todoRepository, times(2)).flush();
+        verify(eventPublisher, times(1)).publishEvent(any(TodoUpdatedEvent.class));
+    }
+
+    @Test
+    void 같은_필드를_바꾼_동시_수정과_충돌하면_412_로_거절한다() {
+        // given
+        given(todoRepository.findByIdWithUser(TODO_ID)).willReturn(
+                Optional.of(todo("title", "contents", 2L)),
+                Optional.of(todo("other", "contents", 3L))
+        );
+        willThrow(new ObjectOptimisticLockingFailureException(Todo.class, TODO_ID)).given(todoRepository).flush();
+
+        // when
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> todoUpdateService.updateTodo(authUser, TODO_ID, 2L, new TodoUpdateRequest("new", null)));
+
+        // then
+        assertEquals(3L, exception.getCurrentVersion());
+        verify(todoRepository, times(1)).flush();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void 충돌이_계속되면_정해진_횟수까지만_시도한다() {
+        // given
+        given(todoRepository.findByIdWithUser(TODO_ID)).willAnswer(invocation -> Optional.of(todo("title", "contents", 2L)));
+        willThrow(new ObjectOptimisticLockingFailureException(Todo.class, TODO_ID)).given(todoRepository).flush();
+
+        // when & then
+        assertThrows(PreconditionFailedException.class,
+                () -> todoUpdateService.updateTodo(authUser, TODO_ID, 2L, new TodoUpdateRequest("new", null)));
+        verify(todoRepository, times(3)).flush();
+    }
+
+    private Todo todo(String title, String contents, long version) {
+        Todo todo = new Todo(title, contents, "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", TODO_ID);
+        ReflectionTestUtils.setField(todo, "version", version);
+        return todo;
+    }
+}
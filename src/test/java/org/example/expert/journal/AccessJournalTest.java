@@ -0,0 +1,132 @@
+package org.example.expert.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessJournalTest {
+
+    private static final long DAY = Duration.ofDays(1).toMillis();
+    // 헤더 + 레코드 3개
+    private static final long SEGMENT_BYTES = 32 + 24 * 3;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 기록한_레코드를_시간_범위로_조회한다() throws Exception {
+        // given
+        AccessJournal journal = new AccessJournal(directory, SEGMENT_BYTES, Duration.ofDays(1));
+        journal.open();
+        int routeId = journal.routeId("PATCH /admin/users/{userId}");
+        for (int i = 0; i < 5; i++) {
+            journal.append(i, DAY * 10 + i * 1000L, routeId, 200);
+        }
+
+        // when
+        List<AccessJournalEntry> entries = new ArrayList<>();
+        journal.scan(DAY * 10 + 1000, DAY * 10 + 4000, entries::add);
+
+        // then
+        assertEquals(3, entries.size());
+        assertEquals(1L, entries.get(0).getUserId());
+        assertEquals("PATCH /admin/users/{userId}", entries.get(0).getRoute());
+        assertEquals(200, entries.get(0).getStatus());
+    }
+
+    @Test
+    void 세그먼트가_가득_차거나_날짜가_바뀌면_교체된다() throws Exception {
+        // given
+        AccessJournal journal = new AccessJournal(directory, SEGMENT_BYTES, Duration.ofDays(1));
+        journal.open();
+        int routeId = journal.routeId("DELETE /admin/comments/{commentId}");
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            journal.append(i, DAY * 10 + i, routeId, 200);
+        }
+        journal.append(4, DAY * 11, routeId, 200);
+
+        // then
+        List<Long> segments = new ArrayList<>();
+        journal.scan(0, Long.MAX_VALUE, entry -> {
+            if (!segments.contains(entry.getSegment())) {
+                segments.add(entry.getSegment());
+            }
+            return true;
+        });
+        assertEquals(List.of(DAY * 10, DAY * 10 + 3, DAY * 11), segments);
+    }
+
+    @Test
+    void 재시작_후에도_이어서_기록한다() throws Exception {
+        // given
+        AccessJournal journal = new AccessJournal(directory, SEGMENT_BYTES, Duration.ofDays(1));
+        journal.open();
+        int routeId = journal.routeId("PATCH /admin/users/{userId}");
+        journal.append(1L, DAY * 10, routeId, 200);
+        journal.close();
+
+        // when
+        AccessJournal reopened = new AccessJournal(directory, SEGMENT_BYTES, Duration.ofDays(1));
+        reopened.open();
+        reopened.append(2L, DAY * 10 + 1, reopened.routeId("PATCH /admin/users/{userId}"), 400);
+
+        // then
+        List<AccessJournalEntry> entries = new ArrayList<>();
+        reopened.scan(0, Long.MAX_VALUE, entries::add);
+        assertEquals(2, entries.size());
+        assertEquals(routeId, entries.get(1).getRouteId());
+        assertEquals(1, entries.get(1).getIndex());
+    }
+
+    @Test
+    void 보관_기간이_지난_세그먼트는_파일째_삭제한다() throws Exception {
+        // given
+        AccessJournal journal = new AccessJournal(directory, SEGMENT_BYTES, Duration.ofDays(1));
+        journal.open();
+        int routeId = journal.routeId("PATCH /admin/users/{userId}");
+        journal.append(1L, DAY * 10, routeId, 200);
+        journal.append(2L, DAY * 11, routeId, 200);
+
+        // when
+        int dropped = journal.dropSegmentsBefore(DAY * 11);
+
+        // then
+        assertEquals(1, dropped);
+        List<AccessJournalEntry> entries = new ArrayList<>();
+        journal.scan(0, Long.MAX_VALUE, entries::add);
+        assertEquals(1, entries.size());
+        assertEquals(2L, entries.get(0).getUserId());
+    }
+
+    @Test
+    void 조회_중에_세그먼트가_삭제되어도_끝까지_읽는다() throws Exception {
+        // given
+        AccessJournal journal = new AccessJournal(directory, SEGMENT_BYTES, Duration.ofDays(1));
+        journal.open();
+        int routeId = journal.routeId("PATCH /admin/users/{userId}");
+        journal.append(1L, DAY * 10, routeId, 200);
+        journal.append(2L, DAY * 11, routeId, 200);
+        journal.append(3L, DAY * 12, routeId, 200);
+
+        // when
+        List<Long> userIds = new ArrayList<>();
+        journal.scan(0, Long.MAX_VALUE, entry -> {
+            if (userIds.isEmpty()) {
+                assertDoesNotThrow(() -> journal.dropSegmentsBefore(DAY * 12));
+            }
+            userIds.add(entry.getUserId());
+            return true;
+        });
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L), userIds);
+    }
+}
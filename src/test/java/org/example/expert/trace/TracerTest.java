@@ -0,0 +1,68 @@
+package org.example.expert.trace;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TracerTest {
+
+    @Mock
+    private OtlpJsonFileExporter exporter;
+
+    @Test
+    void 샘플링되지_않은_빠른_요청은_내보내지_않는다() {
+        // given
+        Tracer tracer = new Tracer(exporter, 0.0, Duration.ofSeconds(10), 200);
+
+        // when
+        Span root = tracer.beginRequest("GET /todos");
+        TraceContext.startSpan("TodoService.getTodos", SpanKind.INTERNAL).end();
+        tracer.endRequest(root);
+
+        // then
+        verify(exporter, never()).export(any());
+        assertFalse(TraceContext.isActive());
+    }
+
+    @Test
+    void 느린_요청은_샘플링과_관계없이_내보낸다() {
+        // given
+        Tracer tracer = new Tracer(exporter, 0.0, Duration.ZERO, 200);
+
+        // when
+        Span root = tracer.beginRequest("POST /todos");
+        Span child = TraceContext.startSpan("TodoService.saveTodo", SpanKind.INTERNAL);
+        TraceContext.startSpan("SQL INSERT", SpanKind.CLIENT).end();
+        child.end();
+        tracer.endRequest(root);
+
+        // then
+        ArgumentCaptor<Trace> captor = ArgumentCaptor.forClass(Trace.class);
+        verify(exporter, times(1)).export(captor.capture());
+        Trace trace = captor.getValue();
+        assertEquals(3, trace.getFinishedSpans().size());
+        Span sql = trace.getFinishedSpans().get(0);
+        assertEquals(child.getSpanId(), sql.getParentSpanId());
+        assertEquals(root.getSpanId(), child.getParentSpanId());
+    }
+
+    @Test
+    void 트레이스가_없으면_span_을_기록하지_않는다() {
+        // when
+        Span span = TraceContext.startSpan("orphan", SpanKind.INTERNAL);
+        span.attribute("key", "value");
+        span.end();
+
+        // then
+        assertTrue(span.getAttributes().isEmpty());
+    }
+}
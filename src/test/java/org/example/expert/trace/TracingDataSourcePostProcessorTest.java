@@ -0,0 +1,81 @@
+package org.example.expert.trace;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TracingDataSourcePostProcessorTest {
+
+    @Mock
+    private DataSource primaryDataSource;
+    @Mock
+    private DataSource replicaDataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+
+    @AfterEach
+    void tearDown() {
+        TraceContext.clear();
+    }
+
+    @Test
+    void 라우팅_구성에서는_Primary_DataSource_만_감싸_쿼리_하나에_span_하나를_만든다() throws Exception {
+        // given: primary/replica 대상과 이를 감싼 @Primary DataSource
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("primaryDataSource", new RootBeanDefinition(DataSource.class));
+        beanFactory.registerBeanDefinition("replicaDataSource", new RootBeanDefinition(DataSource.class));
+        RootBeanDefinition routing = new RootBeanDefinition(DataSource.class);
+        routing.setPrimary(true);
+        beanFactory.registerBeanDefinition("dataSource", routing);
+
+        TracingDataSourcePostProcessor postProcessor = new TracingDataSourcePostProcessor();
+        postProcessor.setBeanFactory(beanFactory);
+        DataSource primary = (DataSource) postProcessor.postProcessAfterInitialization(primaryDataSource, "primaryDataSource");
+        DataSource replica = (DataSource) postProcessor.postProcessAfterInitialization(replicaDataSource, "replicaDataSource");
+        DataSource dataSource = (DataSource) postProcessor.postProcessAfterInitialization(
+                new DelegatingDataSource(primary), "dataSource");
+
+        given(primaryDataSource.getConnection()).willReturn(connection);
+        given(connection.prepareStatement("select 1")).willReturn(statement);
+        Trace trace = TraceContext.begin(true, 200);
+
+        // when
+        dataSource.getConnection().prepareStatement("select 1").executeQuery();
+
+        // then
+        assertSame(primaryDataSource, primary);
+        assertSame(replicaDataSource, replica);
+        assertInstanceOf(TracingDataSource.class, dataSource);
+        assertEquals(1, trace.getFinishedSpans().size());
+    }
+
+    @Test
+    void DataSource_가_하나면_그대로_감싼다() {
+        // given
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("dataSource", new RootBeanDefinition(DataSource.class));
+        TracingDataSourcePostProcessor postProcessor = new TracingDataSourcePostProcessor();
+        postProcessor.setBeanFactory(beanFactory);
+
+        // when
+        Object result = postProcessor.postProcessAfterInitialization(primaryDataSource, "dataSource");
+
+        // then
+        assertInstanceOf(TracingDataSource.class, result);
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.expert.trace;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TracingDataSourceTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+
+    @AfterEach
+    void tearDown() {
+        TraceContext.clear();
+    }
+
+    @Test
+    void 트레이스가_없으면_원본_커넥션을_반환한다() throws Exception {
+        // given
+        given(dataSource.getConnection()).willReturn(connection);
+
+        // when
+        Connection result = new TracingDataSource(dataSource).getConnection();
+
+        // then
+        assertSame(connection, result);
+    }
+
+    @Test
+    void 샘플링되지_않은_요청도_SQL_실행마다_span_을_만든다() throws Exception {
+        // given: 느리거나 실패하면 요청이 끝날 때 내보내질 수 있다
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.prepareStatement("select 1")).willReturn(statement);
+        Trace trace = TraceContext.begin(false, 200);
+
+        // when
+        Connection result = new TracingDataSource(dataSource).getConnection();
+        result.prepareStatement("select 1").executeQuery();
+
+        // then
+        assertEquals(1, trace.getFinishedSpans().size());
+        assertEquals("SQL SELECT", trace.getFinishedSpans().get(0).getName());
+    }
+
+    @Test
+    void 요청당_span_수를_넘는_SQL_은_기록하지_않고_센다() throws Exception {
+        // given
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.prepareStatement("select 1")).willReturn(statement);
+        Trace trace = TraceContext.begin(false, 2);
+
+        // when
+        Connection result = new TracingDataSource(dataSource).getConnection();
+        for (int i = 0; i < 5; i++) {
+            result.prepareStatement("select 1").executeQuery();
+        }
+
+        // then
+        assertEquals(2, trace.getFinishedSpans().size());
+        assertEquals(3, trace.getDroppedSpans());
+    }
+}